@@ -0,0 +1,72 @@
+package com.testcontainer.benchmark;
+
+import com.testcontainer.api.entity.Customer;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.concurrent.TimeUnit;
+
+//ENTITY <-> BSON: THE MAPPING SPRING-DATA RUNS FOR EVERY DOCUMENT READ/WRITTEN
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomerBsonBenchmark {
+
+  private MappingMongoConverter converter;
+  private DocumentCodec codec;
+
+  private Customer customer;
+  private Document document;
+  private RawBsonDocument rawDocument;
+
+
+  @Setup
+  public void setUp() {
+    MongoMappingContext context = new MongoMappingContext();
+    context.afterPropertiesSet();
+
+    converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE,context);
+    converter.afterPropertiesSet();
+    codec = new DocumentCodec();
+
+    customer = Customers.customer(1);
+    document = toDocument();
+    rawDocument = new RawBsonDocument(document,codec);
+  }
+
+
+  @Benchmark
+  public Document toDocument() {
+    Document target = new Document();
+    converter.write(customer,target);
+    return target;
+  }
+
+
+  @Benchmark
+  public Customer fromDocument() {
+    return converter.read(Customer.class,document);
+  }
+
+
+  //ENTITY -> DOCUMENT -> BSON-BYTES (WHAT THE DRIVER SENDS)
+  @Benchmark
+  public RawBsonDocument toBson() {
+    return new RawBsonDocument(toDocument(),codec);
+  }
+
+
+  //BSON-BYTES -> DOCUMENT -> ENTITY (WHAT A CURSOR RETURNS)
+  @Benchmark
+  public Customer fromBson() {
+    return converter.read(Customer.class,rawDocument.decode(codec));
+  }
+}
@@ -0,0 +1,70 @@
+package com.testcontainer.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcontainer.api.entity.Customer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//JACKSON ENCODE/DECODE (SAME BUILDER-DEFAULTS AS THE WEBFLUX CODECS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomerJsonBenchmark {
+
+  @Param({"10", "1000"})
+  private int listSize;
+
+  private ObjectMapper mapper;
+  private JavaType listType;
+
+  private Customer customer;
+  private List<Customer> customerList;
+
+  private byte[] customerJson;
+  private byte[] customerListJson;
+
+
+  @Setup
+  public void setUp() throws IOException {
+    mapper = Jackson2ObjectMapperBuilder.json().build();
+    listType = mapper.getTypeFactory().constructCollectionType(List.class,Customer.class);
+
+    customer = Customers.customer(1);
+    customerList = Customers.customers(listSize);
+
+    customerJson = mapper.writeValueAsBytes(customer);
+    customerListJson = mapper.writeValueAsBytes(customerList);
+  }
+
+
+  @Benchmark
+  public byte[] encodeCustomer() throws IOException {
+    return mapper.writeValueAsBytes(customer);
+  }
+
+
+  @Benchmark
+  public Customer decodeCustomer() throws IOException {
+    return mapper.readValue(customerJson,Customer.class);
+  }
+
+
+  @Benchmark
+  public byte[] encodeCustomerList() throws IOException {
+    return mapper.writeValueAsBytes(customerList);
+  }
+
+
+  @Benchmark
+  public List<Customer> decodeCustomerList() throws IOException {
+    return mapper.readValue(customerListJson,listType);
+  }
+}
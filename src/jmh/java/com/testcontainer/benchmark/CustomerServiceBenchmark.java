@@ -0,0 +1,115 @@
+package com.testcontainer.benchmark;
+
+import com.testcontainer.api.cache.NoOpCustomerCache;
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.dto.CustomerPage;
+import com.testcontainer.api.dto.IngestSummary;
+import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.service.CustomerService;
+import com.testcontainer.api.writer.DirectCustomerWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Validation;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//SERVICE-PIPELINE OVERHEAD (OPERATORS, VALIDATION, CACHE-EVICTION, COALESCING)
+//AGAINST AN IN-MEMORY REPOSITORY: REGRESSIONS HERE ARE NOT HIDDEN BY MONGO LATENCY
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomerServiceBenchmark {
+
+  @Param({"1000"})
+  private int storeSize;
+
+  private CustomerService service;
+  private List<Customer> batch;
+  private String existingId;
+
+
+  @Setup
+  public void setUp() {
+    InMemoryRepository repo = new InMemoryRepository();
+    service = new CustomerService(
+         repo,
+         new CustomerProperties(),
+         Validation.buildDefaultValidatorFactory().getValidator(),
+         new PassThroughTransactionalOperator(),
+         new NoOpCustomerCache(),
+         new DirectCustomerWriter(repo)
+    );
+
+    repo.saveAll(Customers.customers(storeSize)).blockLast();
+    batch = Customers.customers(100);
+    existingId = Customers.customer(storeSize / 2).getId();
+  }
+
+
+  @Benchmark
+  public Customer findById() {
+    return service.findById(existingId).block();
+  }
+
+
+  @Benchmark
+  public CustomerPage findPage() {
+    return service.findPage(null,20).block();
+  }
+
+
+  @Benchmark
+  public Long findAllStream() {
+    return service.findAll(256).count().block();
+  }
+
+
+  @Benchmark
+  public Customer saveAll() {
+    return service.saveAll(batch).blockLast();
+  }
+
+
+  @Benchmark
+  public Customer saveRollback() {
+    return service.saveList_IfThrowExceptionExecutesTheRollback(batch).blockLast();
+  }
+
+
+  @Benchmark
+  public IngestSummary ingest() {
+    return service.ingest(Flux.fromIterable(batch)).blockLast();
+  }
+
+
+  //NO TRANSACTION-MANAGER: MEASURES THE PIPELINE, NOT MONGO'S TRANSACTION COST
+  //'EXECUTE' HANDS THE CALLBACK A NEW, NEVER-COMMITTED TRANSACTION-STATUS
+  private static class PassThroughTransactionalOperator implements TransactionalOperator {
+
+    @Override
+    public <T> Flux<T> transactional(Flux<T> flux) {
+      return flux;
+    }
+
+
+    @Override
+    public <T> Mono<T> transactional(Mono<T> mono) {
+      return mono;
+    }
+
+
+    @Override
+    public <T> Flux<T> execute(TransactionCallback<T> action) {
+      return Flux.defer(() -> action.doInTransaction(
+           new GenericReactiveTransaction(null,true,false,false,false,null)));
+    }
+  }
+}
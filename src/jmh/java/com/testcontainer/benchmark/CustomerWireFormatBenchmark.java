@@ -0,0 +1,87 @@
+package com.testcontainer.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcontainer.api.entity.Customer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+//WIRE-FORMATS (JSON x CBOR x SMILE), PLAIN OR GZIP (SAME DEFLATE-LEVEL AS THE SERVER-COMPRESSION)
+//ENCODED-SIZE IS PRINTED ONCE PER TRIAL: "[format gzip=...] N customers -> B bytes"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomerWireFormatBenchmark {
+
+  @Param({"json", "cbor", "smile"})
+  private String format;
+
+  @Param({"false", "true"})
+  private boolean gzip;
+
+  @Param({"1000"})
+  private int listSize;
+
+  private ObjectMapper mapper;
+  private JavaType listType;
+
+  private List<Customer> customerList;
+  private byte[] encoded;
+
+
+  @Setup
+  public void setUp() throws IOException {
+    mapper = mapper(format);
+    listType = mapper.getTypeFactory().constructCollectionType(List.class,Customer.class);
+
+    customerList = Customers.customers(listSize);
+    encoded = encodeCustomerList();
+
+    System.out.printf("%n[%s gzip=%s] %d customers -> %d bytes%n",format,gzip,listSize,encoded.length);
+  }
+
+
+  @Benchmark
+  public byte[] encodeCustomerList() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+      mapper.writeValue(out,customerList);
+    }
+    return bytes.toByteArray();
+  }
+
+
+  @Benchmark
+  public List<Customer> decodeCustomerList() throws IOException {
+    try (InputStream in = gzip
+         ? new GZIPInputStream(new ByteArrayInputStream(encoded))
+         : new ByteArrayInputStream(encoded)) {
+      return mapper.readValue(in,listType);
+    }
+  }
+
+
+  private static ObjectMapper mapper(String format) {
+    switch (format) {
+      case "cbor":
+        return Jackson2ObjectMapperBuilder.cbor().build();
+      case "smile":
+        return Jackson2ObjectMapperBuilder.smile().build();
+      default:
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.testcontainer.benchmark;
+
+import com.testcontainer.api.entity.Customer;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+//DETERMINISTIC FIXTURES: SAME PAYLOAD ON EVERY RUN (COMPARABLE BASELINES)
+final class Customers {
+
+  private Customers() {
+  }
+
+
+  static Customer customer(int i) {
+    return new Customer(
+         String.format("%024x",i),
+         "customer" + i + "@mail.com",
+         i % 55
+    );
+  }
+
+
+  static List<Customer> customers(int size) {
+    return IntStream.range(0,size)
+                    .mapToObj(Customers::customer)
+                    .collect(Collectors.toList());
+  }
+}
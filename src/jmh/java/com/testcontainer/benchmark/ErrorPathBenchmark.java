@@ -0,0 +1,82 @@
+package com.testcontainer.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcontainer.api.exceptions.CustomAttributes;
+import com.testcontainer.api.exceptions.CustomerException;
+import com.testcontainer.api.exceptions.ErrorBodies;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.error.ErrorAttributeOptions;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+//ERROR-PATH OF GlobalExceptionHandler, PER ERROR (A 404 "Customer not found"):
+//- defaultMode: STACK-TRACE + DefaultErrorAttributes-MAP + CustomAttributes + JACKSON
+//- fastMode:    STACKLESS CustomerException + PRE-ENCODED BODY (customer.errors.fast-mode=true)
+//'-prof gc' SHOWS THE ALLOCATION-RATE DIFFERENCE (gc.alloc.rate.norm)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ErrorPathBenchmark {
+
+  private static final String REASON = "Customer not found";
+
+  //DEEP CALL-STACK: THE STACK-WALK COST GROWS WITH IT (REACTOR + NETTY STACKS ARE DEEP)
+  @Param({"10", "100"})
+  private int stackDepth;
+
+  private ObjectMapper mapper;
+  private CustomAttributes attributes;
+  private ErrorBodies errorBodies;
+
+  private MockServerWebExchange exchange;
+  private ServerRequest request;
+
+
+  @Setup
+  public void setUp() {
+    mapper = Jackson2ObjectMapperBuilder.json().build();
+    attributes = new CustomAttributes();
+    errorBodies = new ErrorBodies(mapper);
+    //AS GlobalExceptionHandler DOES WITH customer.errors.fast-mode=true
+    CustomerException.stackless(true);
+
+    exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/customer/email/unknown@mail.com"));
+    request = ServerRequest.create(exchange,HandlerStrategies.withDefaults().messageReaders());
+  }
+
+
+  @Benchmark
+  public byte[] defaultMode() throws IOException {
+    return atDepth(stackDepth,() -> {
+      attributes.storeErrorInformation(new ResponseStatusException(HttpStatus.NOT_FOUND,REASON),exchange);
+      return mapper.writeValueAsBytes(attributes.getErrorAttributes(request,ErrorAttributeOptions.defaults()));
+    });
+  }
+
+
+  @Benchmark
+  public byte[] fastMode() throws IOException {
+    return atDepth(stackDepth,() -> errorBodies.body(new CustomerException(HttpStatus.NOT_FOUND,REASON)));
+  }
+
+
+  private interface ErrorPath {
+    byte[] render() throws IOException;
+  }
+
+
+  private static byte[] atDepth(int depth, ErrorPath path) throws IOException {
+    return depth == 0 ? path.render() : atDepth(depth - 1,path);
+  }
+}
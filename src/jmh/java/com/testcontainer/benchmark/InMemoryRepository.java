@@ -0,0 +1,237 @@
+package com.testcontainer.benchmark;
+
+import com.testcontainer.api.dto.CustomerRating;
+import com.testcontainer.api.dto.RatingStats;
+import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.repository.IRepository;
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Range;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+//IN-MEMORY REPOSITORY: ISOLATES THE SERVICE-PIPELINE COST FROM MONGO/NETWORK
+//EVERY OPERATION MIMICS THE MONGO SEMANTICS (NO STUBS: ANY SERVICE-PATH CAN BE BENCHMARKED)
+class InMemoryRepository implements IRepository {
+
+  private final Map<String, Customer> store = new ConcurrentSkipListMap<>();
+
+
+  @Override
+  public <S extends Customer> Mono<S> save(S customer) {
+    return Mono.fromSupplier(() -> put(customer));
+  }
+
+
+  @Override
+  public <S extends Customer> Flux<S> saveAll(Iterable<S> customers) {
+    return Flux.fromIterable(customers).map(this::put);
+  }
+
+
+  @Override
+  public <S extends Customer> Flux<S> saveAll(Publisher<S> customers) {
+    return Flux.from(customers).map(this::put);
+  }
+
+
+  @Override
+  public Mono<Customer> findById(String id) {
+    return Mono.fromSupplier(() -> store.get(id));
+  }
+
+
+  @Override
+  public Mono<Customer> findById(Publisher<String> id) {
+    return Mono.from(id).flatMap(this::findById);
+  }
+
+
+  @Override
+  public Mono<Boolean> existsById(String id) {
+    return Mono.fromSupplier(() -> store.containsKey(id));
+  }
+
+
+  @Override
+  public Mono<Boolean> existsById(Publisher<String> id) {
+    return Mono.from(id).flatMap(this::existsById);
+  }
+
+
+  @Override
+  public Flux<Customer> findAll() {
+    return Flux.defer(() -> Flux.fromIterable(store.values()));
+  }
+
+
+  @Override
+  public Flux<Customer> findAllById(Iterable<String> ids) {
+    return Flux.fromIterable(ids).flatMap(this::findById);
+  }
+
+
+  @Override
+  public Flux<Customer> findAllById(Publisher<String> ids) {
+    return Flux.from(ids).flatMap(this::findById);
+  }
+
+
+  @Override
+  public Mono<Long> count() {
+    return Mono.fromSupplier(() -> (long) store.size());
+  }
+
+
+  @Override
+  public Mono<Void> deleteById(String id) {
+    return Mono.fromRunnable(() -> store.remove(id));
+  }
+
+
+  @Override
+  public Mono<Void> deleteById(Publisher<String> id) {
+    return Mono.from(id).flatMap(this::deleteById);
+  }
+
+
+  @Override
+  public Mono<Void> delete(Customer customer) {
+    return deleteById(customer.getId());
+  }
+
+
+  @Override
+  public Mono<Void> deleteAll(Iterable<? extends Customer> customers) {
+    return Flux.fromIterable(customers).flatMap(this::delete).then();
+  }
+
+
+  @Override
+  public Mono<Void> deleteAll(Publisher<? extends Customer> customers) {
+    return Flux.from(customers).flatMap(this::delete).then();
+  }
+
+
+  @Override
+  public Mono<Void> deleteAll() {
+    return Mono.fromRunnable(store::clear);
+  }
+
+
+  @Override
+  public Mono<Customer> findByEmail(String email) {
+    return findAll().filter(customer -> Objects.equals(email,customer.getEmail())).next();
+  }
+
+
+  @Override
+  public Flux<Customer> findByRatingBetween(Range<Integer> range) {
+    return findAll().filter(customer -> range.contains(customer.getRating()));
+  }
+
+
+  @Override
+  public Flux<CustomerRating> findAllProjectedBy() {
+    return findAll().map(Rating::new);
+  }
+
+
+  @Override
+  public Flux<Customer> findAll(int batchSize) {
+    return findAll();
+  }
+
+
+  @Override
+  public Flux<Customer> findAll(int batchSize, Set<String> fields) {
+    return findAll();
+  }
+
+
+  @Override
+  public Flux<Customer> findPageAfter(String lastId, int limit) {
+    return findAll()
+         .filter(customer -> lastId == null || customer.getId().compareTo(lastId) > 0)
+         .take(limit);
+  }
+
+
+  @Override
+  public Flux<Customer> bulkSave(List<Customer> customers, int chunkSize, boolean ordered) {
+    return Flux.fromIterable(customers).map(this::put);
+  }
+
+
+  @Override
+  public Mono<RatingStats> ratingStats(int bucketWidth) {
+    return findAll()
+         .filter(customer -> customer.getRating() != null)
+         .map(Customer::getRating)
+         .collectList()
+         .map(ratings -> toRatingStats(ratings,bucketWidth));
+  }
+
+
+  //SAME SHAPE AS THE '$FACET' RESULT: EMPTY -> COUNT 0, NO MIN/MAX/MEAN
+  private RatingStats toRatingStats(List<Integer> ratings, int bucketWidth) {
+    List<RatingStats.Bucket> histogram =
+         ratings.stream()
+                .collect(Collectors.groupingBy(rating -> Math.floorDiv(rating,bucketWidth),
+                                               TreeMap::new,
+                                               Collectors.counting()))
+                .entrySet()
+                .stream()
+                .map(bucket -> new RatingStats.Bucket(
+                     bucket.getKey() * bucketWidth,
+                     bucket.getKey() * bucketWidth + bucketWidth - 1,
+                     bucket.getValue()))
+                .collect(Collectors.toList());
+
+    if (ratings.isEmpty()) return new RatingStats(0,null,null,null,histogram);
+
+    IntSummaryStatistics summary = ratings.stream().mapToInt(Integer::intValue).summaryStatistics();
+    return new RatingStats(summary.getCount(),summary.getMin(),summary.getMax(),summary.getAverage(),histogram);
+  }
+
+
+  private <S extends Customer> S put(S customer) {
+    if (customer.getId() == null) customer.setId(new ObjectId().toHexString());
+    store.put(customer.getId(),customer);
+    return customer;
+  }
+
+
+  private static class Rating implements CustomerRating {
+
+    private final String id;
+    private final Integer rating;
+
+
+    Rating(Customer customer) {
+      this.id = customer.getId();
+      this.rating = customer.getRating();
+    }
+
+
+    @Override
+    public String getId() {
+      return id;
+    }
+
+
+    @Override
+    public Integer getRating() {
+      return rating;
+    }
+  }
+}
@@ -1,7 +1,11 @@
 package com.testcontainer;
 
+import com.testcontainer.api.blocking.BlockingMonitorListener;
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.config.MongoClientProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -9,18 +13,13 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @SpringBootApplication
 @EnableReactiveMongoRepositories(basePackages = {"com.testcontainer.api.repository"})
 @EnableTransactionManagement
+@EnableConfigurationProperties({CustomerProperties.class, MongoClientProperties.class})
 public class AppDriver {
 
-    //    static {
-    //        BlockHound.install(
-    //                builder -> builder
-    //                        .allowBlockingCallsInside("java.util.UUID","randomUUID")
-    //                          );
-    //    }
-
-
     public static void main(String[] args) {
-        SpringApplication.run(AppDriver.class,args);
+        SpringApplication application = new SpringApplication(AppDriver.class);
+        application.addListeners(new BlockingMonitorListener());
+        application.run(args);
     }
 
 
@@ -0,0 +1,129 @@
+package com.testcontainer.api.blocking;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.blockhound.BlockingMethod;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/*------------------------------------------------------------
+                 BLOCK-HOUND CALLBACK (MONITOR-MODE)
+  ------------------------------------------------------------
+a) REPLACES THE DEFAULT CALLBACK (THROW 'BlockingOperationError'):
+   THE BLOCKING CALL IS RECORDED AND THE REQUEST GOES ON
+b) EVERY CALL IS COUNTED: customer.blocking.calls{method=...,thread=...}
+   (THREAD = POOL-NAME WITHOUT THE INDEX: LOW CARDINALITY)
+c) SAMPLED ('SAMPLE-RATE'): STACK-WALK FOR THE CALL-SITE + LOG,
+   AT MOST ONE LOG PER METHOD/CALL-SITE PER 'LOG-INTERVAL'
+d) COUNTS BEFORE THE METER-REGISTRY EXISTS (STARTUP) ARE KEPT AND PUBLISHED ON 'BIND-TO'
+  ------------------------------------------------------------*/
+@Slf4j
+public class BlockingCallMonitor implements Consumer<BlockingMethod>, MeterBinder {
+
+  private static final String CALLS = "customer.blocking.calls";
+  private static final Pattern THREAD_INDEX = Pattern.compile("[-\\d]+$");
+  private static final StackWalker WALKER = StackWalker.getInstance();
+
+  private final double sampleRate;
+  private final long logIntervalNanos;
+
+  private final Map<String, Calls> calls = new ConcurrentHashMap<>();
+  private final Map<String, Long> lastLogged = new ConcurrentHashMap<>();
+  private volatile MeterRegistry registry;
+
+
+  public BlockingCallMonitor(double sampleRate, Duration logInterval) {
+    this.sampleRate = sampleRate;
+    this.logIntervalNanos = logInterval.toNanos();
+  }
+
+
+  @Override
+  public void accept(BlockingMethod blockingMethod) {
+    String method = blockingMethod.toString();
+    String thread = THREAD_INDEX.matcher(Thread.currentThread().getName()).replaceFirst("");
+
+    calls.computeIfAbsent(method + "@" + thread,key -> register(new Calls(method,thread)))
+         .count
+         .increment();
+
+    if (ThreadLocalRandom.current().nextDouble() < sampleRate) report(method,thread);
+  }
+
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+    calls.values().forEach(this::register);
+  }
+
+
+  public long getCount(String method, String thread) {
+    Calls counted = calls.get(method + "@" + thread);
+    return counted == null ? 0 : counted.count.sum();
+  }
+
+
+  private Calls register(Calls counted) {
+    MeterRegistry current = registry;
+    if (current != null) FunctionCounter
+         .builder(CALLS,counted.count,LongAdder::sum)
+         .tag("method",counted.method)
+         .tag("thread",counted.thread)
+         .description("Blocking calls detected on non-blocking threads")
+         .register(current);
+    return counted;
+  }
+
+
+  //ALLOWED TO BLOCK (LOGGING): SEE BlockingMonitorListener
+  private void report(String method, String thread) {
+    String callSite = WALKER.walk(frames -> frames
+         .filter(frame -> !isInfrastructure(frame.getClassName()))
+         .findFirst()
+         .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+         .orElse("unknown"));
+
+    long now = System.nanoTime();
+    String site = method + "@" + callSite;
+    Long previous = lastLogged.get(site);
+
+    //ONE WINNER PER INTERVAL, EVEN WITH MANY THREADS HITTING THE SAME CALL-SITE
+    boolean due = previous == null
+         ? lastLogged.putIfAbsent(site,now) == null
+         : now - previous >= logIntervalNanos && lastLogged.replace(site,previous,now);
+    if (!due) return;
+
+    log.warn("Blocking call {} on '{}' from {} (total on this pool: {})",
+             method,thread,callSite,getCount(method,thread));
+  }
+
+
+  private static boolean isInfrastructure(String className) {
+    return className.startsWith("java.")
+           || className.startsWith("jdk.")
+           || className.startsWith("sun.")
+           || className.startsWith("reactor.blockhound.")
+           || className.startsWith(BlockingCallMonitor.class.getPackageName());
+  }
+
+
+  private static final class Calls {
+    private final String method;
+    private final String thread;
+    private final LongAdder count = new LongAdder();
+
+    private Calls(String method, String thread) {
+      this.method = method;
+      this.thread = thread;
+    }
+  }
+}
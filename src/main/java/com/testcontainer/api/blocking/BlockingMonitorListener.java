@@ -0,0 +1,51 @@
+package com.testcontainer.api.blocking;
+
+import com.testcontainer.api.config.CustomerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.boot.context.event.SpringApplicationEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import reactor.blockhound.BlockHound;
+
+//OPT-IN (customer.blocking.monitor=true), REGISTERED BY AppDriver:
+//a) ENVIRONMENT-PREPARED: INSTALLS BLOCK-HOUND BEFORE ANY BEAN/EVENT-LOOP EXISTS
+//   (THE INSTRUMENTATION IS JVM-WIDE AND CANNOT BE UNINSTALLED)
+//b) CONTEXT-PREPARED: THE MONITOR BECOMES A BEAN, SO BOOT BINDS IT TO THE METER-REGISTRIES
+@Slf4j
+public class BlockingMonitorListener implements ApplicationListener<SpringApplicationEvent> {
+
+  private static final String PREFIX = "customer.blocking";
+
+  private BlockingCallMonitor monitor;
+
+
+  @Override
+  public void onApplicationEvent(SpringApplicationEvent event) {
+    if (event instanceof ApplicationEnvironmentPreparedEvent && monitor == null)
+      install(Binder.get(((ApplicationEnvironmentPreparedEvent) event).getEnvironment())
+                    .bind(PREFIX,CustomerProperties.Blocking.class)
+                    .orElseGet(CustomerProperties.Blocking::new));
+
+    if (event instanceof ApplicationPreparedEvent && monitor != null)
+      ((ApplicationPreparedEvent) event).getApplicationContext()
+                                        .getBeanFactory()
+                                        .registerSingleton("blockingCallMonitor",monitor);
+  }
+
+
+  private void install(CustomerProperties.Blocking config) {
+    if (!config.isMonitor()) return;
+
+    monitor = new BlockingCallMonitor(config.getSampleRate(),config.getLogInterval());
+
+    BlockHound.install(
+         builder -> builder
+              .allowBlockingCallsInside(BlockingCallMonitor.class.getName(),"report")
+              .blockingMethodCallback(monitor));
+
+    log.info("BlockHound installed in monitor-mode (sample-rate={}, log-interval={})",
+             config.getSampleRate(),config.getLogInterval());
+  }
+}
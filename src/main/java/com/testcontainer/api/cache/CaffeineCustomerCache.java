@@ -0,0 +1,54 @@
+package com.testcontainer.api.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.testcontainer.api.entity.Customer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+//ASYNC READ-THROUGH: THE CACHE STORES THE 'FUTURE' OF THE LOAD,
+//SO CONCURRENT MISSES OF THE SAME ID SHARE ONE REPOSITORY CALL
+//INVALIDATE ALSO DROPS A LOAD STILL IN FLIGHT (ITS RESULT IS NEVER CACHED)
+//METRICS: cache.gets{cache=customer,result=hit|miss}, cache.evictions, cache.size (PROMETHEUS)
+public class CaffeineCustomerCache implements ICustomerCache {
+
+  private final AsyncCache<String, Customer> cache;
+
+
+  public CaffeineCustomerCache(long maximumSize, Duration ttl, MeterRegistry registry) {
+    this.cache = CaffeineCacheMetrics.monitor(
+         registry,
+         Caffeine.newBuilder()
+                 .maximumSize(maximumSize)
+                 .expireAfterWrite(ttl)
+                 .recordStats()
+                 .<String, Customer>buildAsync(),
+         "customer");
+  }
+
+
+  //EMPTY-RESULT (UNKNOWN ID) COMPLETES WITH NULL AND IS NOT CACHED
+  //'COPY': A CANCELLED SUBSCRIBER MUST NOT CANCEL THE SHARED FUTURE
+  @Override
+  public Mono<Customer> get(String id, Function<String, Mono<Customer>> loader) {
+    return Mono.defer(() -> Mono.fromFuture(
+         cache.get(id,(key,executor) -> loader.apply(key).toFuture())
+              .copy()));
+  }
+
+
+  @Override
+  public void invalidate(String id) {
+    if (id != null) cache.synchronous().invalidate(id);
+  }
+
+
+  @Override
+  public void invalidateAll() {
+    cache.synchronous().invalidateAll();
+  }
+}
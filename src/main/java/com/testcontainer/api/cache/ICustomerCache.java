@@ -0,0 +1,15 @@
+package com.testcontainer.api.cache;
+
+import com.testcontainer.api.entity.Customer;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+public interface ICustomerCache {
+
+  Mono<Customer> get(String id, Function<String, Mono<Customer>> loader);
+
+  void invalidate(String id);
+
+  void invalidateAll();
+}
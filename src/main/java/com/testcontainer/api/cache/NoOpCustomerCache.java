@@ -0,0 +1,25 @@
+package com.testcontainer.api.cache;
+
+import com.testcontainer.api.entity.Customer;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+//CACHE DISABLED: EVERY READ GOES TO THE REPOSITORY
+public class NoOpCustomerCache implements ICustomerCache {
+
+  @Override
+  public Mono<Customer> get(String id, Function<String, Mono<Customer>> loader) {
+    return loader.apply(id);
+  }
+
+
+  @Override
+  public void invalidate(String id) {
+  }
+
+
+  @Override
+  public void invalidateAll() {
+  }
+}
@@ -0,0 +1,111 @@
+package com.testcontainer.api.changes;
+
+import com.mongodb.client.model.changestream.OperationType;
+import com.testcontainer.api.dto.CustomerChange;
+import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.exceptions.CustomerException;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/*------------------------------------------------------------
+                 CHANGE-FEED ('customers' CHANGE-STREAM)
+  ------------------------------------------------------------
+a) LIVE SUBSCRIBERS SHARE ONE CHANGE-STREAM ('PUBLISH/REF-COUNT'):
+   OPENED BY THE FIRST SUBSCRIBER, CLOSED AFTER THE LAST ONE LEAVES
+b) A RESUME-TOKEN NEEDS ITS OWN CHANGE-STREAM (IT STARTS IN THE PAST)
+c) EACH SUBSCRIBER HAS ITS OWN BOUNDED BUFFER: A SLOW CLIENT OVERFLOWS
+   (AND RECONNECTS WITH ITS LAST RESUME-TOKEN) WITHOUT STALLING THE OTHERS
+d) OPERATION-FILTER IS APPLIED PER SUBSCRIBER, ON THE SHARED STREAM
+  ------------------------------------------------------------*/
+@Component
+public class CustomerChangeFeed {
+
+  private static final int SUBSCRIBER_BUFFER = 1_024;
+  private static final Pattern RESUME_TOKEN = Pattern.compile("[0-9A-Fa-f]+");
+
+  private final ReactiveMongoTemplate template;
+  private final Flux<CustomerChange> shared;
+  private final AtomicInteger openStreams = new AtomicInteger();
+
+
+  public CustomerChangeFeed(ReactiveMongoTemplate template) {
+    this.template = template;
+    this.shared = stream(null).publish().refCount();
+  }
+
+
+  public Flux<CustomerChange> changes(Set<String> operations, String resumeToken) {
+    return Flux.defer(() -> {
+      Set<String> accepted = operationTypes(operations);
+      Flux<CustomerChange> source = resumeToken == null ? shared : stream(resumeToken(resumeToken));
+
+      return source
+           .filter(change -> accepted.isEmpty() || accepted.contains(change.getOperation()))
+           .onBackpressureBuffer(SUBSCRIBER_BUFFER);
+    });
+  }
+
+
+  //CHANGE-STREAMS CURRENTLY OPEN AGAINST MONGO (NOT HTTP-SUBSCRIBERS)
+  public int getOpenStreams() {
+    return openStreams.get();
+  }
+
+
+  private Flux<CustomerChange> stream(BsonValue resumeToken) {
+    ChangeStreamOptions.ChangeStreamOptionsBuilder options =
+         ChangeStreamOptions.builder().returnFullDocumentOnUpdate();
+
+    if (resumeToken != null) options.resumeAfter(resumeToken);
+
+    return template
+         .changeStream(null,template.getCollectionName(Customer.class),options.build(),Customer.class)
+         .doOnSubscribe(subscription -> openStreams.incrementAndGet())
+         .doFinally(signal -> openStreams.decrementAndGet())
+         .map(this::toChange);
+  }
+
+
+  private CustomerChange toChange(ChangeStreamEvent<Customer> event) {
+    BsonDocument documentKey = event.getRaw().getDocumentKey();
+    BsonValue id = documentKey == null ? null : documentKey.get("_id");
+
+    return new CustomerChange(
+         event.getOperationType().getValue(),
+         id == null ? null : id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue(),
+         event.getBody(),
+         event.getResumeToken().asDocument().getString("_data").getValue()
+    );
+  }
+
+
+  private Set<String> operationTypes(Set<String> operations) {
+    for (String operation : operations) {
+      try {
+        OperationType.fromString(operation);
+      } catch (IllegalArgumentException ex) {
+        throw new CustomerException(HttpStatus.BAD_REQUEST,"Unknown operation: " + operation);
+      }
+    }
+    return operations;
+  }
+
+
+  private BsonValue resumeToken(String token) {
+    if (!RESUME_TOKEN.matcher(token).matches())
+      throw new CustomerException(HttpStatus.BAD_REQUEST,"Invalid resume token");
+
+    return new BsonDocument("_data",new BsonString(token));
+  }
+}
@@ -0,0 +1,38 @@
+package com.testcontainer.api.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+//SPRING'S CBOR-ENCODER ONLY ENCODES SINGLE VALUES (MONO)
+//A FLUX IS COLLECTED AND WRITTEN AS ONE CBOR-ARRAY (SAME AS A JSON-ARRAY FOR 'application/json')
+public class CborArrayEncoder extends Jackson2CborEncoder {
+
+  public CborArrayEncoder(ObjectMapper mapper) {
+    super(mapper);
+  }
+
+
+  @Override
+  public Flux<DataBuffer> encode(
+       Publisher<?> inputStream,
+       DataBufferFactory bufferFactory,
+       ResolvableType elementType,
+       MimeType mimeType,
+       Map<String, Object> hints) {
+    ResolvableType listType = ResolvableType.forClassWithGenerics(List.class,elementType);
+
+    return Flux.from(inputStream)
+               .collectList()
+               .map(list -> encodeValue(list,bufferFactory,listType,mimeType,hints))
+               .flux();
+  }
+}
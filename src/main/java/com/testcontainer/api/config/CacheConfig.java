@@ -0,0 +1,28 @@
+package com.testcontainer.api.config;
+
+import com.testcontainer.api.cache.CaffeineCustomerCache;
+import com.testcontainer.api.cache.ICustomerCache;
+import com.testcontainer.api.cache.NoOpCustomerCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//TOGGLED PER ENVIRONMENT: customer.cache.enabled (DEFAULT: DISABLED)
+@Configuration
+public class CacheConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "customer.cache.enabled", havingValue = "true")
+  ICustomerCache caffeineCustomerCache(CustomerProperties properties, MeterRegistry registry) {
+    CustomerProperties.Cache cache = properties.getCache();
+    return new CaffeineCustomerCache(cache.getMaximumSize(),cache.getTtl(),registry);
+  }
+
+
+  @Bean
+  @ConditionalOnProperty(name = "customer.cache.enabled", havingValue = "false", matchIfMissing = true)
+  ICustomerCache noOpCustomerCache() {
+    return new NoOpCustomerCache();
+  }
+}
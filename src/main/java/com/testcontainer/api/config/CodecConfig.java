@@ -0,0 +1,43 @@
+package com.testcontainer.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.testcontainer.api.codec.CborArrayEncoder;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/*------------------------------------------------------------
+                 BINARY WIRE-FORMATS (CONTENT-NEGOTIATION)
+  ------------------------------------------------------------
+a) 'Accept'/'Content-Type':
+   - application/json            -> JSON (DEFAULT)
+   - application/cbor            -> CBOR
+   - application/x-jackson-smile -> SMILE
+b) SAME JACKSON-SETTINGS AS JSON: BOOT'S BUILDER (PROTOTYPE) WITH ANOTHER FACTORY
+c) CODEC-CUSTOMIZERS GO TO THE SHARED 'ServerCodecConfigurer'
+   (CONTROLLER + GlobalExceptionHandler)
+d) CBOR: SINGLE VALUES ONLY ON REQUEST-BODIES ('ingest' STAYS NDJSON)
+  ------------------------------------------------------------*/
+@Configuration
+public class CodecConfig {
+
+  @Bean
+  CodecCustomizer binaryCodecCustomizer(Jackson2ObjectMapperBuilder builder) {
+    ObjectMapper cbor = builder.factory(new CBORFactory()).build();
+    ObjectMapper smile = builder.factory(new SmileFactory()).build();
+
+    return configurer -> {
+      configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smile));
+      configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smile));
+
+      configurer.customCodecs().register(new Jackson2CborDecoder(cbor));
+      configurer.customCodecs().register(new CborArrayEncoder(cbor));
+    };
+  }
+}
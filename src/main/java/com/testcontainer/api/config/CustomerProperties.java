@@ -0,0 +1,179 @@
+package com.testcontainer.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+//DEFAULTS ARE USED WHEN THE SERVICE IS CREATED MANUALLY (EX.: ServiceTests)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "customer")
+public class CustomerProperties {
+
+  private Bulk bulk = new Bulk();
+
+  private Ingest ingest = new Ingest();
+
+  private Transaction transaction = new Transaction();
+
+  private Cache cache = new Cache();
+
+  private WriteBehind writeBehind = new WriteBehind();
+
+  private Idempotency idempotency = new Idempotency();
+
+  private Limiter limiter = new Limiter();
+
+  private Errors errors = new Errors();
+
+  private Blocking blocking = new Blocking();
+
+  private Deadline deadline = new Deadline();
+
+
+  @Getter
+  @Setter
+  public static class Bulk {
+
+    //DOCUMENTS PER 'BULK-WRITE' ROUND-TRIP
+    private int chunkSize = 1000;
+
+    //ORDERED: STOPS AT THE FIRST FAILED DOCUMENT
+    //UNORDERED: SERVER MAY APPLY THE WRITES IN PARALLEL, REPORTING ALL FAILURES
+    private boolean ordered = true;
+  }
+
+
+  @Getter
+  @Setter
+  public static class Ingest {
+
+    //A BULK-WRITE IS FLUSHED WHEN 'BATCH-SIZE' DOCUMENTS ARRIVED OR 'WINDOW' ELAPSED
+    private int batchSize = 500;
+    private Duration window = Duration.ofMillis(200);
+  }
+
+
+  @Getter
+  @Setter
+  public static class Transaction {
+
+    //DOCUMENTS COMMITTED PER TRANSACTION IN 'saveChunked'
+    //KEEPS EACH TRANSACTION FAR FROM MONGO'S 60s LIFETIME AND 16MB OPLOG-ENTRY LIMITS
+    private int chunkSize = 500;
+
+    //RETRY-BUDGET PER TRANSACTION: WHOLE TRANSACTION (TransientTransactionError) / COMMIT-ONLY
+    private long maxRetries = 5;
+    private long commitRetries = 3;
+
+    //JITTERED EXPONENTIAL BACKOFF BETWEEN ATTEMPTS
+    private Duration minBackoff = Duration.ofMillis(10);
+    private Duration maxBackoff = Duration.ofSeconds(1);
+  }
+
+
+  @Getter
+  @Setter
+  public static class Cache {
+
+    //READ-THROUGH CACHE IN FRONT OF 'findById'
+    private boolean enabled = false;
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(5);
+  }
+
+
+  @Getter
+  @Setter
+  public static class WriteBehind {
+
+    //COALESCES CONCURRENT 'POST /customer' INTO ONE BULK-WRITE
+    private boolean enabled = false;
+    private int batchSize = 100;
+
+    //MAX EXTRA-LATENCY A SAVE WAITS FOR ITS BATCH
+    private Duration window = Duration.ofMillis(5);
+
+    //BULK-WRITES IN FLIGHT AT THE SAME TIME
+    private int concurrency = 4;
+  }
+
+
+  @Getter
+  @Setter
+  public static class Idempotency {
+
+    //HOW LONG A RETRY WITH THE SAME 'IDEMPOTENCY-KEY' IS ANSWERED FROM THE STORED RESULT
+    private Duration ttl = Duration.ofHours(24);
+
+    //IN-PROCESS LRU IN FRONT OF THE 'idempotency_keys' COLLECTION
+    private long maximumSize = 10_000;
+  }
+
+
+  @Getter
+  @Setter
+  public static class Limiter {
+
+    //ADAPTIVE IN-FLIGHT LIMIT PER ROUTE (AIMD): EXCESS REQUESTS GET A FAST 503 (OPT-IN)
+    private boolean enabled = false;
+    private int initialLimit = 100;
+    private int minLimit = 5;
+    private int maxLimit = 1000;
+
+    //A RESPONSE SLOWER THAN 'LATENCY-TARGET' SHRINKS THE LIMIT BY 'BACKOFF-RATIO'
+    private Duration latencyTarget = Duration.ofMillis(250);
+    private double backoffRatio = 0.9;
+
+    //STREAMS/BATCHES: THEIR 'LATENCY' IS THE STREAM/BATCH LENGTH, NOT OVERLOAD
+    private Set<String> excludedRoutes = new HashSet<>(Set.of(
+         "changes","findAllStream","ingest","saveList_InChunkedTransactions","saveList_IfThrowExceptionExecutesTheRollback"));
+  }
+
+
+  @Getter
+  @Setter
+  public static class Errors {
+
+    //PRE-ENCODED BODIES FOR DOMAIN-ERRORS (NO timestamp/path/requestId); '?trace=true' ALWAYS GETS THE FULL BODY
+    private boolean fastMode = false;
+  }
+
+
+  @Getter
+  @Setter
+  public static class Blocking {
+
+    //BLOCK-HOUND IN PRODUCTION: BLOCKING CALLS ON EVENT-LOOPS ARE COUNTED/LOGGED, NOT THROWN
+    //READ BEFORE THE CONTEXT EXISTS (SEE BlockingMonitorListener): NOT REFRESHABLE
+    private boolean monitor = false;
+
+    //FRACTION OF THE DETECTIONS THAT PAY FOR A STACK-WALK (CALL-SITE) + LOG
+    private double sampleRate = 0.01;
+    private Duration logInterval = Duration.ofMinutes(1);
+  }
+
+
+  @Getter
+  @Setter
+  public static class Deadline {
+
+    //PER-REQUEST DEADLINE -> MONGO 'MAX-TIME-MS' + CLIENT-TIMER (SEE DeadlineFilter)
+    private boolean enabled = true;
+    private Duration defaultTimeout = Duration.ofSeconds(30);
+
+    //PER ROUTE (CONTROLLER-METHOD); 0 = NO DEADLINE (STREAMS/BATCHES: LENGTH DEPENDS ON THE DATA)
+    //'X-Request-Timeout' STILL APPLIES TO THEM
+    private Map<String, Duration> routes = new HashMap<>(Map.of(
+         "changes",Duration.ZERO,
+         "findAllStream",Duration.ZERO,
+         "ingest",Duration.ZERO,
+         "saveList_InChunkedTransactions",Duration.ZERO));
+  }
+}
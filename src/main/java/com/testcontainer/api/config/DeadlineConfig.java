@@ -0,0 +1,20 @@
+package com.testcontainer.api.config;
+
+import com.testcontainer.api.deadline.DeadlineFilter;
+import com.testcontainer.api.route.RouteResolver;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//TOGGLED PER ENVIRONMENT: customer.deadline.enabled (DEFAULT: ENABLED)
+@Configuration
+@ConditionalOnProperty(name = "customer.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig {
+
+  @Bean
+  DeadlineFilter deadlineFilter(
+       RouteResolver routes,
+       CustomerProperties properties) {
+    return new DeadlineFilter(routes,properties.getDeadline());
+  }
+}
@@ -0,0 +1,40 @@
+package com.testcontainer.api.config;
+
+import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.id.ICustomerIdGenerator;
+import com.testcontainer.api.id.ObjectIdGenerator;
+import com.testcontainer.api.id.UlidGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeConvertCallback;
+import reactor.core.publisher.Mono;
+
+//TOGGLED PER ENVIRONMENT: customer.id.generator=objectid|ulid (DEFAULT: OBJECTID)
+//- REPOSITORY/TEMPLATE SAVES: BEFORE-CONVERT CALLBACK (INSERT STAYS INSERT: 'IS-NEW' WAS ALREADY DECIDED)
+//- BULK-SAVES: IRepositoryCustomImpl (RAW WRITE-MODELS SKIP THE CALLBACKS)
+@Configuration
+public class IdGeneratorConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "customer.id.generator", havingValue = "ulid")
+  ICustomerIdGenerator ulidGenerator() {
+    return new UlidGenerator();
+  }
+
+
+  @Bean
+  @ConditionalOnProperty(name = "customer.id.generator", havingValue = "objectid", matchIfMissing = true)
+  ICustomerIdGenerator objectIdGenerator() {
+    return new ObjectIdGenerator();
+  }
+
+
+  @Bean
+  ReactiveBeforeConvertCallback<Customer> customerIdCallback(ICustomerIdGenerator ids) {
+    return (customer, collection) -> {
+      if (customer.getId() == null) customer.setId(ids.next());
+      return Mono.just(customer);
+    };
+  }
+}
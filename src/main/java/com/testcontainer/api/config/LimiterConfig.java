@@ -0,0 +1,30 @@
+package com.testcontainer.api.config;
+
+import com.testcontainer.api.limiter.ConcurrencyLimitFilter;
+import com.testcontainer.api.limiter.ConcurrencyLimiter;
+import com.testcontainer.api.route.RouteResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//OPT-IN PER ENVIRONMENT: customer.limiter.enabled (DEFAULT: DISABLED)
+//TUNE 'LATENCY-TARGET'/'EXCLUDED-ROUTES' TO THE ROUTES' REAL LATENCIES BEFORE ENABLING
+@Configuration
+@ConditionalOnProperty(name = "customer.limiter.enabled", havingValue = "true")
+public class LimiterConfig {
+
+  @Bean
+  ConcurrencyLimiter concurrencyLimiter(CustomerProperties properties, MeterRegistry registry) {
+    return new ConcurrencyLimiter(properties.getLimiter(),registry);
+  }
+
+
+  @Bean
+  ConcurrencyLimitFilter concurrencyLimitFilter(
+       RouteResolver routes,
+       ConcurrencyLimiter limiter,
+       CustomerProperties properties) {
+    return new ConcurrencyLimitFilter(routes,limiter,properties.getLimiter().getExcludedRoutes());
+  }
+}
@@ -0,0 +1,68 @@
+package com.testcontainer.api.config;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+//POOL/SOCKET/COMPRESSION OF THE MONGO-CLIENT (PREFIX: mongo.client)
+//ONLY THE PROPERTIES THAT ARE SET ARE APPLIED: THE REST STAYS AS THE URI/DRIVER LEFT IT
+@Slf4j
+@Configuration
+@AllArgsConstructor
+public class MongoClientConfig {
+
+  private final MongoClientProperties properties;
+
+
+  @Bean
+  public MongoClientSettingsBuilderCustomizer mongoClientSettingsCustomizer() {
+    MongoClientProperties.Pool pool = properties.getPool();
+    MongoClientProperties.Socket socket = properties.getSocket();
+
+    return builder -> {
+      builder
+           .applyToConnectionPoolSettings(settings -> {
+             ifSet(pool.getMinSize(),settings::minSize);
+             ifSet(pool.getMaxSize(),settings::maxSize);
+             ifSet(pool.getMaxWait(),wait -> settings.maxWaitTime(wait.toMillis(),MILLISECONDS));
+             ifSet(pool.getMaxIdleTime(),idle -> settings.maxConnectionIdleTime(idle.toMillis(),MILLISECONDS));
+             ifSet(pool.getMaintenanceFrequency(),
+                   frequency -> settings.maintenanceFrequency(frequency.toMillis(),MILLISECONDS));
+           })
+           .applyToSocketSettings(settings -> {
+             ifSet(socket.getConnectTimeout(),timeout -> settings.connectTimeout(millis(timeout),MILLISECONDS));
+             ifSet(socket.getReadTimeout(),timeout -> settings.readTimeout(millis(timeout),MILLISECONDS));
+           });
+
+      ifSet(properties.getCompressors(),
+            compressors -> builder.compressorList(
+                 compressors.stream()
+                            .map(MongoClientProperties.Compressor::create)
+                            .collect(Collectors.toList())));
+
+      log.info("Mongo-client pool (null = uri/driver): min={} max={} maxWait={} maxIdleTime={} maintenanceFrequency={}",
+               pool.getMinSize(),pool.getMaxSize(),pool.getMaxWait(),
+               pool.getMaxIdleTime(),pool.getMaintenanceFrequency());
+      log.info("Mongo-client socket (null = uri/driver): connectTimeout={} readTimeout={} | compressors={}",
+               socket.getConnectTimeout(),socket.getReadTimeout(),properties.getCompressors());
+    };
+  }
+
+
+  private static <T> void ifSet(T value, Consumer<T> apply) {
+    if (value != null) apply.accept(value);
+  }
+
+
+  private static int millis(Duration duration) {
+    return (int) duration.toMillis();
+  }
+}
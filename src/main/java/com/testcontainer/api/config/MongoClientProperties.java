@@ -0,0 +1,73 @@
+package com.testcontainer.api.config;
+
+import com.mongodb.MongoCompressor;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+//UNSET (NULL) = KEEPS THE 'spring.data.mongodb.uri' OPTION, OR THE DRIVER DEFAULT
+//SET = APPLIED AFTER THE URI, SO IT WINS OVER THE URI-OPTION ('ZERO' DURATION = NO LIMIT)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "mongo.client")
+public class MongoClientProperties {
+
+  private Pool pool = new Pool();
+
+  private Socket socket = new Socket();
+
+  //NEGOTIATED WITH THE SERVER IN THIS ORDER (EMPTY: NO COMPRESSION)
+  private List<Compressor> compressors;
+
+
+  @Getter
+  @Setter
+  public static class Pool {
+
+    //DRIVER DEFAULTS: 0 / 100
+    private Integer minSize;
+    private Integer maxSize;
+
+    //HOW LONG A REQUEST WAITS FOR A FREE CONNECTION BEFORE FAILING (DRIVER DEFAULT: 2M)
+    private Duration maxWait;
+
+    //IDLE CONNECTIONS ARE CLOSED BY THE MAINTENANCE-TASK (DOWN TO 'MIN-SIZE')
+    //DRIVER DEFAULTS: 0 / 1M
+    private Duration maxIdleTime;
+    private Duration maintenanceFrequency;
+  }
+
+
+  @Getter
+  @Setter
+  public static class Socket {
+
+    //DRIVER DEFAULTS: 10S / 0
+    private Duration connectTimeout;
+    private Duration readTimeout;
+  }
+
+
+  //SNAPPY/ZSTD NEED THEIR NATIVE LIBS ON THE CLASSPATH (SEE POM); ZLIB IS IN THE JDK
+  public enum Compressor {
+    SNAPPY(MongoCompressor::createSnappyCompressor),
+    ZSTD(MongoCompressor::createZstdCompressor),
+    ZLIB(MongoCompressor::createZlibCompressor);
+
+    private final Supplier<MongoCompressor> factory;
+
+
+    Compressor(Supplier<MongoCompressor> factory) {
+      this.factory = factory;
+    }
+
+
+    public MongoCompressor create() {
+      return factory.get();
+    }
+  }
+}
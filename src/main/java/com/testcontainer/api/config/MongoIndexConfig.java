@@ -0,0 +1,63 @@
+package com.testcontainer.api.config;
+
+import com.testcontainer.api.entity.Customer;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+//INDEXES ARE CREATED AT STARTUP (IDEMPOTENT: 'ENSURE' DOES NOTHING IF THEY EXIST)
+//- email (unique, partial): findByEmail; ONLY DOCUMENTS WITH AN EMAIL ARE INDEXED,
+//  SO 'SAVE' WITHOUT EMAIL (NOT VALIDATED) DOES NOT COLLIDE ON 'NULL'
+//- rating + _id: findByRatingBetween (RANGE ON 'RATING', STABLE ORDER BY '_ID')
+@Slf4j
+@Configuration
+@AllArgsConstructor
+public class MongoIndexConfig {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+  private final ReactiveMongoTemplate template;
+
+
+  //BLOCKS THE STARTUP-THREAD (NOT AN EVENT-LOOP): THE APP DOES NOT
+  //SERVE REQUESTS WITHOUT ITS INDEXES (EX.: DUPLICATED EMAILS FAIL HERE)
+  @EventListener(ApplicationReadyEvent.class)
+  public void ensureIndexesAtStartup() {
+    ensureIndexes().block(STARTUP_TIMEOUT);
+  }
+
+
+  public Mono<Void> ensureIndexes() {
+    ReactiveIndexOperations indexOps = template.indexOps(Customer.class);
+
+    return Flux
+         .concat(
+              indexOps.ensureIndex(
+                   new Index()
+                        .on("email",Sort.Direction.ASC)
+                        .unique()
+                        .partial(PartialIndexFilter.of(where("email").exists(true)))
+                        .named("email_unique")),
+              indexOps.ensureIndex(
+                   new Index()
+                        .on("rating",Sort.Direction.ASC)
+                        .on("_id",Sort.Direction.ASC)
+                        .named("rating_id"))
+                )
+         .doOnNext(index -> log.info("Index ensured: {}",index))
+         .then();
+  }
+}
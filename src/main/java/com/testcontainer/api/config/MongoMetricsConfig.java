@@ -0,0 +1,23 @@
+package com.testcontainer.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsCommandListener;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsConnectionPoolListener;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//DRIVER-METRICS (BOOT 2.4 DOES NOT AUTO-CONFIGURE THEM):
+//- mongodb.driver.commands{command=find|insert|...}  -> CommandListener
+//- mongodb.driver.pool.size/checkedout/waitqueuesize -> ConnectionPoolListener
+@Configuration
+public class MongoMetricsConfig {
+
+  @Bean
+  MongoClientSettingsBuilderCustomizer mongoMetricsCustomizer(MeterRegistry registry) {
+    return builder -> builder
+         .addCommandListener(new MongoMetricsCommandListener(registry))
+         .applyToConnectionPoolSettings(
+              pool -> pool.addConnectionPoolListener(new MongoMetricsConnectionPoolListener(registry)));
+  }
+}
@@ -1,26 +1,38 @@
 package com.testcontainer.api.config;
 
+import com.testcontainer.api.transaction.RetryingMongoTransactionManager;
+import com.testcontainer.api.transaction.RetryingTransactionalOperator;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
-import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
 import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
 import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
 
 //https://www.youtube.com/watch?v=9henAE6VUbk&t=364s
+//RETRIES: TRANSACTION (OPERATOR) + COMMIT-ONLY (MANAGER), SEE customer.transaction.*
 @Configuration
 public class MongoTransactionConfig {
 
     @Bean
-    TransactionalOperator transactionOperator(ReactiveTransactionManager txm) {
-        return TransactionalOperator.create(txm);
+    TransactionalOperator transactionOperator(
+            ReactiveTransactionManager txm,
+            CustomerProperties properties,
+            MeterRegistry registry) {
+        return new RetryingTransactionalOperator(
+                TransactionalOperator.create(txm),
+                properties.getTransaction(),
+                registry);
     }
 
 
     @Bean
-    ReactiveTransactionManager transactionManager(ReactiveMongoDatabaseFactory dbf) {
-        return new ReactiveMongoTransactionManager(dbf);
+    ReactiveTransactionManager transactionManager(
+            ReactiveMongoDatabaseFactory dbf,
+            CustomerProperties properties,
+            MeterRegistry registry) {
+        return new RetryingMongoTransactionManager(dbf,properties.getTransaction(),registry);
     }
 }
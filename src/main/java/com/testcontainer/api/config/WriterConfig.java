@@ -0,0 +1,32 @@
+package com.testcontainer.api.config;
+
+import com.testcontainer.api.repository.IRepository;
+import com.testcontainer.api.writer.DirectCustomerWriter;
+import com.testcontainer.api.writer.ICustomerWriter;
+import com.testcontainer.api.writer.WriteBehindCustomerWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//TOGGLED PER ENVIRONMENT: customer.write-behind.enabled (DEFAULT: DISABLED)
+@Configuration
+public class WriterConfig {
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(name = "customer.write-behind.enabled", havingValue = "true")
+  ICustomerWriter writeBehindCustomerWriter(IRepository repo, CustomerProperties properties) {
+    CustomerProperties.WriteBehind writeBehind = properties.getWriteBehind();
+    return new WriteBehindCustomerWriter(
+         repo,
+         writeBehind.getBatchSize(),
+         writeBehind.getWindow(),
+         writeBehind.getConcurrency());
+  }
+
+
+  @Bean
+  @ConditionalOnProperty(name = "customer.write-behind.enabled", havingValue = "false", matchIfMissing = true)
+  ICustomerWriter directCustomerWriter(IRepository repo) {
+    return new DirectCustomerWriter(repo);
+  }
+}
@@ -1,6 +1,14 @@
 package com.testcontainer.api.controller;
 
+import com.testcontainer.api.changes.CustomerChangeFeed;
+import com.testcontainer.api.dto.ChunkCommit;
+import com.testcontainer.api.dto.CustomerChange;
+import com.testcontainer.api.dto.CustomerPage;
+import com.testcontainer.api.dto.CustomerRating;
+import com.testcontainer.api.dto.IngestSummary;
+import com.testcontainer.api.dto.RatingStats;
 import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.idempotency.IdempotencyStore;
 import com.testcontainer.api.service.ICustomerService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,8 +17,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.springframework.http.HttpStatus.*;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
 //@AllArgsConstructor
 @Slf4j
@@ -21,18 +32,97 @@ public class Controller {
   @Autowired
   private ICustomerService service;
 
+  @Autowired
+  private IdempotencyStore idempotency;
+
+  @Autowired
+  private CustomerChangeFeed changeFeed;
+
+
+  private static final String DEFAULT_BATCH_SIZE = "256";
+  private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
 
+  //PROJECTION: ?fields=id,rating
   @GetMapping
   @ResponseStatus(OK)
-  public Flux<Customer> findAll() {
-    return service.findAll();
+  public Flux<Customer> findAll(
+       @RequestParam(defaultValue = DEFAULT_BATCH_SIZE) int batchSize,
+       @RequestParam(required = false) Set<String> fields) {
+    return fields == null
+         ? service.findAll()
+         : service.findAll(batchSize,fields);
+  }
+
+
+  @GetMapping(produces = {APPLICATION_NDJSON_VALUE, TEXT_EVENT_STREAM_VALUE})
+  @ResponseStatus(OK)
+  public Flux<Customer> findAllStream(
+       @RequestParam(defaultValue = DEFAULT_BATCH_SIZE) int batchSize,
+       @RequestParam(defaultValue = "") Set<String> fields) {
+    return service.findAll(batchSize,fields);
+  }
+
+
+  //CHANGE-FEED: ?operations=insert,delete&resumeToken=<last event's resumeToken>
+  @GetMapping(value = "changes", produces = {APPLICATION_NDJSON_VALUE, TEXT_EVENT_STREAM_VALUE})
+  @ResponseStatus(OK)
+  public Flux<CustomerChange> changes(
+       @RequestParam(defaultValue = "") Set<String> operations,
+       @RequestParam(required = false) String resumeToken) {
+    return changeFeed.changes(operations,resumeToken);
+  }
+
+
+  @GetMapping("ratings")
+  @ResponseStatus(OK)
+  public Flux<CustomerRating> findRatings() {
+    return service.findRatings();
+  }
+
+
+  @GetMapping("page")
+  @ResponseStatus(OK)
+  public Mono<CustomerPage> findPage(
+       @RequestParam(required = false) String token,
+       @RequestParam(defaultValue = "20") int size) {
+    return service.findPage(token,size);
+  }
+
+
+  @GetMapping("email/{email}")
+  @ResponseStatus(OK)
+  public Mono<Customer> findByEmail(@PathVariable String email) {
+    return service.findByEmail(email);
+  }
+
+
+  @GetMapping("rating")
+  @ResponseStatus(OK)
+  public Flux<Customer> findByRating(
+       @RequestParam(defaultValue = "0") int min,
+       @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int max) {
+    return service.findByRating(min,max);
+  }
+
+
+  @GetMapping("stats")
+  @ResponseStatus(OK)
+  public Mono<RatingStats> ratingStats(@RequestParam(defaultValue = "10") int bucketWidth) {
+    return service.ratingStats(bucketWidth);
   }
 
 
   @PostMapping
   @ResponseStatus(CREATED)
-  public Mono<Customer> save(@RequestBody Customer customer) {
-    return service.save(customer);
+  public Mono<Customer> save(
+       @RequestBody Customer customer,
+       @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+    if (idempotencyKey == null) return service.save(customer);
+
+    return idempotency.execute(
+         idempotencyKey,"save",customer,Customer.class,
+         () -> service.save(customer));
   }
 
 
@@ -52,8 +142,30 @@ public class Controller {
 
   @PostMapping("saveRollback")
   @ResponseStatus(CREATED)
-  public Flux<Customer> saveList_IfThrowExceptionExecutesTheRollback
-       (@RequestBody List<Customer> customerList) {
-    return service.saveList_IfThrowExceptionExecutesTheRollback(customerList);
+  public Flux<Customer> saveList_IfThrowExceptionExecutesTheRollback(
+       @RequestBody List<Customer> customerList,
+       @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+    if (idempotencyKey == null) return service.saveList_IfThrowExceptionExecutesTheRollback(customerList);
+
+    return idempotency.executeMany(
+         idempotencyKey,"saveRollback",customerList,Customer.class,
+         () -> service.saveList_IfThrowExceptionExecutesTheRollback(customerList));
+  }
+
+
+  @PostMapping("saveChunked")
+  @ResponseStatus(CREATED)
+  public Flux<ChunkCommit> saveList_InChunkedTransactions(
+       @RequestBody List<Customer> customerList,
+       @RequestParam(required = false) String checkpoint) {
+    return service.saveList_InChunkedTransactions(customerList,checkpoint);
+  }
+
+
+  //STREAMING-UPLOAD: NDJSON IS DECODED LINE BY LINE, NEVER AS A WHOLE 'LIST'
+  @PostMapping(value = "ingest", consumes = APPLICATION_NDJSON_VALUE, produces = APPLICATION_NDJSON_VALUE)
+  @ResponseStatus(OK)
+  public Flux<IngestSummary> ingest(@RequestBody Flux<Customer> customerFlux) {
+    return service.ingest(customerFlux);
   }
 }
@@ -0,0 +1,95 @@
+package com.testcontainer.api.deadline;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.testcontainer.api.exceptions.DeadlineExceededException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/*------------------------------------------------------------
+                 REQUEST-DEADLINE (REACTOR-CONTEXT)
+  ------------------------------------------------------------
+a) ABSOLUTE: SET ONCE PER REQUEST (DeadlineFilter), EVERY CALL GETS THE REMAINING TIME
+b) REPOSITORY-CALLS APPLY IT TWICE:
+   - SERVER: 'MAX-TIME-MS' (MONGO STOPS THE QUERY/CURSOR ITSELF)
+   - CLIENT: ONE TIMER FOR THE WHOLE STREAM (NOT PER ELEMENT, LIKE 'Flux.timeout')
+c) EXPIRED / CLIENT GONE -> CANCEL -> THE DRIVER KILLS THE SERVER-CURSOR
+d) NO DEADLINE IN THE CONTEXT (TESTS, JOBS) -> CALL RUNS UNBOUNDED
+  ------------------------------------------------------------*/
+public final class Deadline {
+
+  private final long deadlineNanos;
+
+
+  private Deadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+
+  public static Deadline after(Duration timeout) {
+    return new Deadline(System.nanoTime() + timeout.toNanos());
+  }
+
+
+  public Duration remaining() {
+    return Duration.ofNanos(deadlineNanos - System.nanoTime());
+  }
+
+
+  public Context writeTo(Context context) {
+    return context.put(Deadline.class,this);
+  }
+
+
+  //'MAX-TIME': EMPTY WITHOUT DEADLINE
+  public static <T> Flux<T> flux(Function<Optional<Duration>, Flux<T>> call) {
+    return Flux.deferContextual(context -> {
+      Optional<Deadline> deadline = context.getOrEmpty(Deadline.class);
+      if (deadline.isEmpty()) return call.apply(Optional.empty());
+
+      Duration remaining = deadline.get().remaining();
+      if (isExpired(remaining)) return Flux.error(new DeadlineExceededException());
+
+      return call.apply(Optional.of(maxTime(remaining)))
+                 .takeUntilOther(Mono.delay(remaining).then(Mono.error(DeadlineExceededException::new)))
+                 .onErrorMap(Deadline::isServerTimeout,error -> new DeadlineExceededException());
+    });
+  }
+
+
+  public static <T> Mono<T> mono(Function<Optional<Duration>, Mono<T>> call) {
+    return Mono.deferContextual(context -> {
+      Optional<Deadline> deadline = context.getOrEmpty(Deadline.class);
+      if (deadline.isEmpty()) return call.apply(Optional.empty());
+
+      Duration remaining = deadline.get().remaining();
+      if (isExpired(remaining)) return Mono.error(new DeadlineExceededException());
+
+      return call.apply(Optional.of(maxTime(remaining)))
+                 .timeout(remaining,Mono.error(DeadlineExceededException::new))
+                 .onErrorMap(Deadline::isServerTimeout,error -> new DeadlineExceededException());
+    });
+  }
+
+
+  private static boolean isExpired(Duration remaining) {
+    return remaining.isNegative() || remaining.isZero();
+  }
+
+
+  //'MAX-TIME-MS: 0' MEANS 'NO LIMIT' FOR MONGO: SUB-MILLI REMAINDERS ROUND UP
+  private static Duration maxTime(Duration remaining) {
+    return Duration.ofMillis(Math.max(1,remaining.toMillis()));
+  }
+
+
+  //MAX-TIME-MS EXPIRED (CODE 50): RAW OR WRAPPED BY SPRING'S EXCEPTION-TRANSLATION
+  private static boolean isServerTimeout(Throwable error) {
+    return error instanceof MongoExecutionTimeoutException
+           || error.getCause() instanceof MongoExecutionTimeoutException;
+  }
+}
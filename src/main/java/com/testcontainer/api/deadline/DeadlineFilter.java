@@ -0,0 +1,65 @@
+package com.testcontainer.api.deadline;
+
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.exceptions.CustomerException;
+import com.testcontainer.api.route.RouteResolver;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+//DEADLINE = MIN('X-Request-Timeout' HEADER, ROUTE-TIMEOUT): A CLIENT CAN ONLY SHORTEN IT
+//ROUTE = CONTROLLER-METHOD (SEE RouteResolver); TIMEOUT 0 = NO DEADLINE (EX.: 'changes')
+public class DeadlineFilter implements WebFilter {
+
+  public static final String REQUEST_TIMEOUT = "X-Request-Timeout";
+
+  private final RouteResolver routes;
+  private final CustomerProperties.Deadline config;
+
+
+  public DeadlineFilter(RouteResolver routes, CustomerProperties.Deadline config) {
+    this.routes = routes;
+    this.config = config;
+  }
+
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    return Mono
+         .defer(() -> timeout(exchange))
+         .flatMap(timeout -> timeout.isZero()
+              ? chain.filter(exchange)
+              : chain.filter(exchange).contextWrite(Deadline.after(timeout)::writeTo));
+  }
+
+
+  private Mono<Duration> timeout(ServerWebExchange exchange) {
+    Duration requested = requested(exchange.getRequest().getHeaders().getFirst(REQUEST_TIMEOUT));
+
+    return routes
+         .route(exchange)
+         .filter(route -> !route.equals(RouteResolver.NONE))
+         .map(route -> config.getRoutes().getOrDefault(route,config.getDefaultTimeout()))
+         .map(route -> requested == null || (!route.isZero() && route.compareTo(requested) < 0)
+              ? route
+              : requested)
+         .defaultIfEmpty(Duration.ZERO);
+  }
+
+
+  private Duration requested(String header) {
+    if (header == null) return null;
+    try {
+      Duration timeout = DurationStyle.detectAndParse(header);
+      if (!timeout.isNegative() && !timeout.isZero()) return timeout;
+    } catch (IllegalArgumentException ex) {
+      //FALLS THROUGH TO 'BAD-REQUEST'
+    }
+    throw new CustomerException(HttpStatus.BAD_REQUEST,"Invalid " + REQUEST_TIMEOUT + ": " + header);
+  }
+}
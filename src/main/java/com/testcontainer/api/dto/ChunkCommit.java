@@ -0,0 +1,20 @@
+package com.testcontainer.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+//ONE COMMITTED CHUNK OF A CHUNKED-TRANSACTIONAL BATCH
+//'CHECKPOINT' RESUMES THE SAME BATCH RIGHT AFTER THIS CHUNK
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkCommit {
+
+  private int chunk;
+  private int committed;
+  private int totalCommitted;
+  private String checkpoint;
+}
@@ -0,0 +1,22 @@
+package com.testcontainer.api.dto;
+
+import com.testcontainer.api.entity.Customer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+//ONE CHANGE-STREAM EVENT OF 'customers'
+//- customer: NULL ON 'DELETE' (ONLY THE ID IS KNOWN)
+//- resumeToken: RECONNECT WITH '?resumeToken=' TO CONTINUE RIGHT AFTER THIS EVENT
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerChange {
+
+  private String operation;
+  private String id;
+  private Customer customer;
+  private String resumeToken;
+}
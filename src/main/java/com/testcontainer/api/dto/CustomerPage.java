@@ -0,0 +1,20 @@
+package com.testcontainer.api.dto;
+
+import com.testcontainer.api.entity.Customer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+//KEYSET-PAGE: 'NEXT' IS AN OPAQUE CONTINUATION TOKEN (NULL ON THE LAST PAGE)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerPage {
+
+  private List<Customer> content;
+  private String next;
+}
@@ -0,0 +1,10 @@
+package com.testcontainer.api.dto;
+
+//INTERFACE-PROJECTION: SPRING-DATA DERIVES THE MONGO-PROJECTION FROM THE GETTERS
+//ONLY _ID + RATING ARE READ/DECODED/SERIALIZED
+public interface CustomerRating {
+
+  String getId();
+
+  Integer getRating();
+}
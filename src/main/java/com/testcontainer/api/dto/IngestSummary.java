@@ -0,0 +1,27 @@
+package com.testcontainer.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+//RUNNING-TOTALS OF A STREAMED INGESTION (THE LAST ELEMENT IS THE FINAL SUMMARY)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestSummary {
+
+  private long batches;
+  private long accepted;
+  private long rejected;
+
+
+  public IngestSummary add(IngestSummary other) {
+    return new IngestSummary(
+         batches + other.batches,
+         accepted + other.accepted,
+         rejected + other.rejected
+    );
+  }
+}
@@ -0,0 +1,35 @@
+package com.testcontainer.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+//COMPUTED SERVER-SIDE (AGGREGATION-PIPELINE): ONLY THIS RESULT TRAVELS OVER THE WIRE
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingStats {
+
+  private long count;
+  private Integer min;
+  private Integer max;
+  private Double mean;
+  private List<Bucket> histogram;
+
+
+  //[FROM, TO] INCLUSIVE
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Bucket {
+
+    private int from;
+    private int to;
+    private long count;
+  }
+}
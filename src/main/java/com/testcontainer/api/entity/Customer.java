@@ -1,5 +1,6 @@
 package com.testcontainer.api.entity;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -7,20 +8,23 @@ import lombok.Setter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import javax.validation.constraints.Null;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotBlank;
 
 //TUTORIAL: https://rieckpil.de/mongodb-testcontainers-setup-for-datamongotest/
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Document(collection = "customers")
 public class Customer {
 
     @Id
     private String id;
 
-    @Null
+    @NotBlank(message = "Email is missing")
+    @Email
     private String email;
     private Integer rating;
 }
\ No newline at end of file
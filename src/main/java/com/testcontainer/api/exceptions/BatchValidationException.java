@@ -0,0 +1,26 @@
+package com.testcontainer.api.exceptions;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.Map;
+
+//ALL INVALID ITEMS OF A BATCH, REPORTED AT ONCE (SEE CustomAttributes)
+@Getter
+public class BatchValidationException extends CustomerException {
+
+  private final List<String> errors;
+
+
+  public BatchValidationException(List<String> errors) {
+    super(HttpStatus.BAD_REQUEST,"Invalid customers - NOTHING WAS WRITTEN!");
+    this.errors = errors;
+  }
+
+
+  @Override
+  public Map<String, Object> getDetails() {
+    return Map.of("errors",errors);
+  }
+}
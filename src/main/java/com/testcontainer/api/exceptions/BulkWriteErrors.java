@@ -0,0 +1,18 @@
+package com.testcontainer.api.exceptions;
+
+import com.mongodb.MongoBulkWriteException;
+
+//SPRING TRANSLATES/WRAPS DRIVER-EXCEPTIONS: THE BULK-WRITE RESULT IS IN THE CAUSE-CHAIN
+public final class BulkWriteErrors {
+
+  private BulkWriteErrors() {
+  }
+
+
+  public static MongoBulkWriteException find(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof MongoBulkWriteException) return (MongoBulkWriteException) cause;
+    }
+    return null;
+  }
+}
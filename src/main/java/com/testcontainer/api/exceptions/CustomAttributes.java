@@ -10,6 +10,9 @@ import java.util.Map;
 
 @Component
 public class CustomAttributes extends DefaultErrorAttributes {
+
+    static final String DEVELOPER_MESSAGE = "Custom Attrib - An Error Happens!";
+
     @Override
     public Map<String, Object> getErrorAttributes(
             ServerRequest request ,
@@ -24,7 +27,11 @@ public class CustomAttributes extends DefaultErrorAttributes {
             ResponseStatusException ex = (ResponseStatusException) throwable;
 
             errorAttributesMap.put("mensagem" ,ex.getMessage());
-            errorAttributesMap.put("developerMensagem" ,"Custom Attrib - An Error Happens!");
+            errorAttributesMap.put("developerMensagem" ,DEVELOPER_MESSAGE);
+        }
+
+        if (throwable instanceof CustomerException) {
+            errorAttributesMap.putAll(((CustomerException) throwable).getDetails());
         }
         return errorAttributesMap;
     }
@@ -0,0 +1,37 @@
+package com.testcontainer.api.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+//DOMAIN-ERRORS ARE EXPECTED OUTCOMES (404, 400, 503...), NOT BUGS:
+//- STACKLESS IN FAST-MODE (customer.errors.fast-mode): NO STACK-WALK ON EVERY BAD REQUEST
+//  OTHERWISE THE FULL STACK ('?trace=true')
+//- DETAILS: EXTRA FIELDS OF THE ERROR-BODY (SEE CustomAttributes / ErrorBodies)
+public class CustomerException extends ResponseStatusException {
+
+  //STATIC: 'FILL-IN-STACK-TRACE' RUNS INSIDE THE THROWABLE-CONSTRUCTOR, BEFORE ANY INSTANCE-FIELD
+  private static volatile boolean stackless = false;
+
+  public CustomerException(HttpStatus status, String reason) {
+    super(status,reason);
+  }
+
+
+  public Map<String, Object> getDetails() {
+    return Map.of();
+  }
+
+
+  //SET FROM 'customer.errors.fast-mode' (SEE GlobalExceptionHandler)
+  public static void stackless(boolean enabled) {
+    stackless = enabled;
+  }
+
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return stackless ? this : super.fillInStackTrace();
+  }
+}
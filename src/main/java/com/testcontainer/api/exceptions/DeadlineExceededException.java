@@ -0,0 +1,11 @@
+package com.testcontainer.api.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+//REQUEST-DEADLINE REACHED (CLIENT-TIMER OR MONGO 'MAX-TIME-MS'): THE QUERY/CURSOR WAS CANCELLED
+public class DeadlineExceededException extends CustomerException {
+
+  public DeadlineExceededException() {
+    super(HttpStatus.GATEWAY_TIMEOUT,"Deadline exceeded - REQUEST CANCELLED!");
+  }
+}
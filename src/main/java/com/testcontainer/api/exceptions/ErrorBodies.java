@@ -0,0 +1,66 @@
+package com.testcontainer.api.exceptions;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*------------------------------------------------------------
+                 PRE-ENCODED ERROR-BODIES (FAST-MODE)
+  ------------------------------------------------------------
+a) SAME FIELDS AS CustomAttributes, MINUS THE PER-REQUEST ONES
+   (timestamp, path, requestId): A STATUS + REASON IS ALWAYS THE SAME JSON
+b) ENCODED ONCE, THEN REUSED (NO ATTRIBUTE-MAP, NO JACKSON PER ERROR)
+c) BOUNDED: REASONS WITH USER-INPUT ("Unknown fields: [...]") MUST NOT GROW IT FOREVER
+d) ERRORS WITH DETAILS (BATCH-ERRORS, ROUTE/LIMIT) ARE ENCODED PER ERROR
+  ------------------------------------------------------------*/
+@Component
+public class ErrorBodies {
+
+  private static final int MAX_ENCODED_BODIES = 256;
+
+  private final ObjectMapper mapper;
+  private final Map<HttpStatus, Map<String, byte[]>> encoded = new ConcurrentHashMap<>();
+  private final AtomicInteger encodedCount = new AtomicInteger();
+
+
+  public ErrorBodies(ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+
+  public byte[] body(CustomerException ex) {
+    if (ex.getReason() == null || !ex.getDetails().isEmpty()) return encode(ex);
+
+    Map<String, byte[]> byReason = encoded.computeIfAbsent(ex.getStatus(),status -> new ConcurrentHashMap<>());
+
+    byte[] body = byReason.get(ex.getReason());
+    if (body != null) return body;
+
+    body = encode(ex);
+    if (encodedCount.get() < MAX_ENCODED_BODIES && byReason.putIfAbsent(ex.getReason(),body) == null)
+      encodedCount.incrementAndGet();
+    return body;
+  }
+
+
+  private byte[] encode(CustomerException ex) {
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("status",ex.getRawStatusCode());
+    attributes.put("error",ex.getStatus().getReasonPhrase());
+    attributes.put("mensagem",ex.getMessage());
+    attributes.put("developerMensagem",CustomAttributes.DEVELOPER_MESSAGE);
+    attributes.putAll(ex.getDetails());
+
+    try {
+      return mapper.writeValueAsBytes(attributes);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package com.testcontainer.api.exceptions;
 
+import com.testcontainer.api.config.CustomerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.web.ResourceProperties;
 import org.springframework.boot.autoconfigure.web.reactive.error.AbstractErrorWebExceptionHandler;
 import org.springframework.boot.web.error.ErrorAttributeOptions;
@@ -16,18 +19,33 @@ import reactor.core.publisher.Mono;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @Order(-2)
 public class GlobalExceptionHandler extends AbstractErrorWebExceptionHandler {
 
+    private static final String ERRORS = "customer.errors";
+
+    private final ErrorBodies errorBodies;
+    private final MeterRegistry registry;
+    private final boolean fastMode;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
     public GlobalExceptionHandler(
             ErrorAttributes errorAttributes ,
             ResourceProperties resourceProperties ,
             ApplicationContext applicationContext ,
-            ServerCodecConfigurer codecConfigurer) {
+            ServerCodecConfigurer codecConfigurer ,
+            ErrorBodies errorBodies ,
+            MeterRegistry registry ,
+            CustomerProperties properties) {
         super(errorAttributes ,resourceProperties ,applicationContext);
         this.setMessageWriters(codecConfigurer.getWriters());
+        this.errorBodies = errorBodies;
+        this.registry = registry;
+        this.fastMode = properties.getErrors().isFastMode();
+        CustomerException.stackless(fastMode);
     }
 
     @Override
@@ -37,6 +55,18 @@ public class GlobalExceptionHandler extends AbstractErrorWebExceptionHandler {
 
     private Mono<ServerResponse> renderErrorResponse(ServerRequest request) {
         String query = request.uri().getQuery();
+        Throwable error = getError(request);
+
+        //FAST-MODE: DOMAIN-ERROR -> PRE-ENCODED BODY (NO ATTRIBUTE-MAP, NO JACKSON)
+        if (fastMode && error instanceof CustomerException && !isTraceEnabled(query)) {
+            CustomerException ex = (CustomerException) error;
+            count(error ,ex.getRawStatusCode());
+
+            return ServerResponse
+                    .status(ex.getRawStatusCode())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(errorBodies.body(ex));
+        }
 
         ErrorAttributeOptions errorAttribute = isTraceEnabled(query) ?
                 ErrorAttributeOptions.of(ErrorAttributeOptions.Include.STACK_TRACE) :
@@ -48,6 +78,7 @@ public class GlobalExceptionHandler extends AbstractErrorWebExceptionHandler {
                         errorAttribute);
 
         int status = (int) Optional.ofNullable(errorAttribs.get("status")).orElse(500);
+        count(error ,status);
 
         return ServerResponse
                 .status(status)
@@ -58,4 +89,16 @@ public class GlobalExceptionHandler extends AbstractErrorWebExceptionHandler {
     private boolean isTraceEnabled(String query){
         return !StringUtils.isEmpty(query) && query.contains("trace=true");
     }
+
+    //customer.errors{exception=CustomerException,status=404}
+    private void count(Throwable error ,int status) {
+        String exception = error.getClass().getSimpleName();
+        counters.computeIfAbsent(
+                exception + status ,
+                key -> Counter.builder(ERRORS)
+                              .tag("exception" ,exception)
+                              .tag("status" ,String.valueOf(status))
+                              .register(registry))
+                .increment();
+    }
 }
@@ -0,0 +1,27 @@
+package com.testcontainer.api.exceptions;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+//IN-FLIGHT LIMIT OF THE ROUTE REACHED: SHED BEFORE ANY WORK (SEE CustomAttributes)
+@Getter
+public class LoadSheddingException extends CustomerException {
+
+  private final String route;
+  private final int limit;
+
+
+  public LoadSheddingException(String route, int limit) {
+    super(HttpStatus.SERVICE_UNAVAILABLE,"Overloaded - REQUEST SHED, RETRY LATER!");
+    this.route = route;
+    this.limit = limit;
+  }
+
+
+  @Override
+  public Map<String, Object> getDetails() {
+    return Map.of("route",route,"limit",limit);
+  }
+}
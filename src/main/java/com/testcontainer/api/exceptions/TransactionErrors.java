@@ -0,0 +1,23 @@
+package com.testcontainer.api.exceptions;
+
+import com.mongodb.MongoException;
+
+//SPRING TRANSLATES/WRAPS DRIVER-EXCEPTIONS: THE ERROR-LABELS ARE IN THE CAUSE-CHAIN
+//- TransientTransactionError:      THE WHOLE TRANSACTION CAN BE RETRIED (EX.: WRITE-CONFLICT)
+//- UnknownTransactionCommitResult: ONLY THE COMMIT CAN BE RETRIED (IT MAY HAVE BEEN APPLIED)
+public final class TransactionErrors {
+
+  public static final String TRANSIENT = MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL;
+  public static final String UNKNOWN_COMMIT_RESULT = MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL;
+
+  private TransactionErrors() {
+  }
+
+
+  public static boolean hasLabel(Throwable error, String label) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof MongoException && ((MongoException) cause).hasErrorLabel(label)) return true;
+    }
+    return false;
+  }
+}
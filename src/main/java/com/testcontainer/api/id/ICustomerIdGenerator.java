@@ -0,0 +1,8 @@
+package com.testcontainer.api.id;
+
+//CALLED ON THE EVENT-LOOP (SAVE-PATH): MUST NEVER BLOCK
+//TIME-ORDERED KEYS: NEW INSERTS LAND ON THE RIGHT EDGE OF THE '_ID' B-TREE
+public interface ICustomerIdGenerator {
+
+  String next();
+}
@@ -0,0 +1,13 @@
+package com.testcontainer.api.id;
+
+import org.bson.types.ObjectId;
+
+//DRIVER'S OBJECT-ID: SECONDS + PROCESS-RANDOM + LOCK-FREE COUNTER (NO SECURE-RANDOM PER ID)
+//24-HEX STRING -> STORED AS A BSON OBJECT-ID (12 BYTES)
+public class ObjectIdGenerator implements ICustomerIdGenerator {
+
+  @Override
+  public String next() {
+    return new ObjectId().toHexString();
+  }
+}
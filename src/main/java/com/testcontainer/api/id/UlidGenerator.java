@@ -0,0 +1,81 @@
+package com.testcontainer.api.id;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/*------------------------------------------------------------
+                      ULID (https://github.com/ulid/spec)
+  ------------------------------------------------------------
+a) 48-BIT MILLIS + 80-BIT RANDOM -> 26 CROCKFORD-BASE32 CHARS (STORED AS A STRING)
+b) LEXICOGRAPHIC ORDER == TIME ORDER (MILLISECOND RESOLUTION)
+c) PER-THREAD STATE: NO LOCK, NO SHARED COUNTER, NO SECURE-RANDOM
+   (THREAD-LOCAL-RANDOM NEVER BLOCKS; ULIDS ARE KEYS, NOT SECRETS)
+d) MONOTONIC PER THREAD: SAME MILLI (OR CLOCK GOING BACK) -> RANDOM + 1
+e) RANDOM OVERFLOW (2^80 IDS IN ONE MILLI) -> MOVES TO THE NEXT MILLI, NEVER WRAPS TO 0
+  ------------------------------------------------------------*/
+public class UlidGenerator implements ICustomerIdGenerator {
+
+  private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+  private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+  private final LongSupplier clock;
+  private final LongSupplier random;
+
+
+  public UlidGenerator() {
+    this(System::currentTimeMillis,() -> ThreadLocalRandom.current().nextLong());
+  }
+
+
+  //CLOCK/RANDOM ARE PLUGGABLE FOR TESTS (EX.: A FROZEN CLOCK TO FORCE THE OVERFLOW)
+  public UlidGenerator(LongSupplier clock, LongSupplier random) {
+    this.clock = clock;
+    this.random = random;
+  }
+
+
+  @Override
+  public String next() {
+    State current = state.get();
+    long now = clock.getAsLong();
+
+    if (now > current.millis) {
+      reseed(current,now);
+    } else if (++current.randomLow == 0 && ++current.randomHigh > 0xFFFF) {
+      //THE LATER MILLI IS KEPT UNTIL THE CLOCK CATCHES UP (SAME AS A CLOCK GOING BACK)
+      reseed(current,current.millis + 1);
+    }
+    return encode(current.millis,current.randomHigh,current.randomLow);
+  }
+
+
+  private void reseed(State current, long millis) {
+    current.millis = millis;
+    current.randomHigh = random.getAsLong() & 0xFFFF;
+    current.randomLow = random.getAsLong();
+  }
+
+
+  //RANDOM = 16 HIGH-BITS + 64 LOW-BITS, WRITTEN 5 BITS PER CHAR, RIGHT TO LEFT
+  private static String encode(long millis, long randomHigh, long randomLow) {
+    char[] chars = new char[26];
+
+    for (int i = 9; i >= 0; i--) {
+      chars[i] = ALPHABET[(int) (millis & 31)];
+      millis >>>= 5;
+    }
+    for (int i = 25; i >= 10; i--) {
+      chars[i] = ALPHABET[(int) (randomLow & 31)];
+      randomLow = (randomLow >>> 5) | (randomHigh << 59);
+      randomHigh >>>= 5;
+    }
+    return new String(chars);
+  }
+
+
+  private static final class State {
+    private long millis = -1;
+    private long randomHigh;
+    private long randomLow;
+  }
+}
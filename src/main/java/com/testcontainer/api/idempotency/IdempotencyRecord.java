@@ -0,0 +1,30 @@
+package com.testcontainer.api.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+//ONE DOCUMENT PER 'IDEMPOTENCY-KEY': REMOVED BY THE TTL-INDEX ON 'CREATED-AT'
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecord {
+
+  @Id
+  private String key;
+
+  //SHA-256(OPERATION + REQUEST-BODY): THE SAME KEY WITH ANOTHER REQUEST IS REJECTED
+  private String requestHash;
+
+  //RESPONSE-BODY (JSON) REPLAYED TO RETRIES
+  private String response;
+
+  private Date createdAt;
+}
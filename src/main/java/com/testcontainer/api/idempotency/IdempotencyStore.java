@@ -0,0 +1,168 @@
+package com.testcontainer.api.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.exceptions.CustomerException;
+import com.testcontainer.api.service.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+/*------------------------------------------------------------
+                    IDEMPOTENCY-KEY (WRITE-ENDPOINTS)
+  ------------------------------------------------------------
+a) LOOKUP: IN-PROCESS LRU -> 'idempotency_keys' COLLECTION -> RUN THE WRITE
+   (A REPLAY NEVER TOUCHES THE 'customers' COLLECTION)
+b) CONCURRENT DUPLICATES (SAME KEY) WAIT FOR THE FIRST IN-FLIGHT RESULT (SINGLE-FLIGHT)
+c) A FAILED WRITE IS NOT STORED: THE CLIENT MAY RETRY WITH THE SAME KEY
+d) EXPIRY: TTL-INDEX ON 'CREATED-AT' (MONGO'S TTL-MONITOR RUNS EVERY ~60s)
+  ------------------------------------------------------------*/
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+  private final ReactiveMongoTemplate template;
+  private final ObjectMapper mapper;
+  private final Duration ttl;
+  private final Cache<String, IdempotencyRecord> recent;
+  private final SingleFlight<String, IdempotencyRecord> flights = new SingleFlight<>();
+
+
+  public IdempotencyStore(ReactiveMongoTemplate template, ObjectMapper mapper, CustomerProperties properties) {
+    CustomerProperties.Idempotency idempotency = properties.getIdempotency();
+    this.template = template;
+    this.mapper = mapper;
+    this.ttl = idempotency.getTtl();
+    this.recent = Caffeine.newBuilder()
+                          .maximumSize(idempotency.getMaximumSize())
+                          .expireAfterWrite(ttl)
+                          .build();
+  }
+
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void ensureIndexesAtStartup() {
+    ensureIndexes().block(STARTUP_TIMEOUT);
+  }
+
+
+  public Mono<Void> ensureIndexes() {
+    return template
+         .indexOps(IdempotencyRecord.class)
+         .ensureIndex(new Index()
+                           .on("createdAt",Sort.Direction.ASC)
+                           .expire(ttl)
+                           .named("createdAt_ttl"))
+         .doOnNext(index -> log.info("Index ensured: {}",index))
+         .then();
+  }
+
+
+  public <T> Mono<T> execute(String key, String operation, Object request,
+                             Class<T> responseType, Supplier<Mono<T>> write) {
+    return execute(key,operation,request,mapper.constructType(responseType),write);
+  }
+
+
+  public <T> Flux<T> executeMany(String key, String operation, Object request,
+                                 Class<T> elementType, Supplier<Flux<T>> write) {
+    JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class,elementType);
+    return this.<List<T>>execute(key,operation,request,listType,() -> write.get().collectList())
+               .flatMapMany(Flux::fromIterable);
+  }
+
+
+  private <T> Mono<T> execute(String key, String operation, Object request,
+                              JavaType responseType, Supplier<Mono<T>> write) {
+    return Mono.defer(() -> {
+      String requestHash = hash(operation,request);
+
+      return flights
+           .execute(key,k -> stored(k).switchIfEmpty(Mono.defer(() -> store(k,requestHash,write))))
+           .map(stored -> {
+             if (!stored.getRequestHash().equals(requestHash)) throw new CustomerException(
+                  HttpStatus.UNPROCESSABLE_ENTITY,"Idempotency-Key already used for a different request");
+             return decode(stored.getResponse(),responseType);
+           });
+    });
+  }
+
+
+  private Mono<IdempotencyRecord> stored(String key) {
+    IdempotencyRecord cached = recent.getIfPresent(key);
+    if (cached != null) return Mono.just(cached);
+
+    return template
+         .findById(key,IdempotencyRecord.class)
+         .doOnNext(found -> recent.put(key,found));
+  }
+
+
+  //DUPLICATE-KEY: ANOTHER INSTANCE STORED THE SAME KEY FIRST -> ITS RESULT WINS
+  private <T> Mono<IdempotencyRecord> store(String key, String requestHash, Supplier<Mono<T>> write) {
+    return write
+         .get()
+         .map(response -> new IdempotencyRecord(key,requestHash,encode(response),new Date()))
+         .flatMap(record -> template
+              .insert(record)
+              .onErrorResume(DuplicateKeyException.class,
+                             error -> template.findById(key,IdempotencyRecord.class)))
+         .doOnNext(record -> recent.put(key,record));
+  }
+
+
+  private String hash(String operation, Object request) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(operation.getBytes(StandardCharsets.UTF_8));
+      byte[] hash = digest.digest(mapper.writeValueAsBytes(request));
+
+      StringBuilder hex = new StringBuilder();
+      for (byte b : hash) hex.append(String.format("%02x",b));
+      return hex.toString();
+    } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+      throw Exceptions.propagate(e);
+    }
+  }
+
+
+  private String encode(Object response) {
+    try {
+      return mapper.writeValueAsString(response);
+    } catch (JsonProcessingException e) {
+      throw Exceptions.propagate(e);
+    }
+  }
+
+
+  private <T> T decode(String response, JavaType type) {
+    try {
+      return mapper.readValue(response,type);
+    } catch (JsonProcessingException e) {
+      throw Exceptions.propagate(e);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.testcontainer.api.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+//AIMD IN-FLIGHT LIMIT (LOCK-FREE: SAFE ON THE EVENT-LOOP)
+//- FAST RESPONSE (LATENCY <= TARGET): +1/LIMIT (~ +1 PER ROUND OF 'LIMIT' REQUESTS)
+//- SLOW RESPONSE (LATENCY > TARGET):  x BACKOFF-RATIO
+public class AimdLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyTargetNanos;
+  private final double backoffRatio;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong limitBits;
+
+
+  public AimdLimit(int initialLimit, int minLimit, int maxLimit, long latencyTargetNanos, double backoffRatio) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyTargetNanos = latencyTargetNanos;
+    this.backoffRatio = backoffRatio;
+    this.limitBits = new AtomicLong(Double.doubleToLongBits(initialLimit));
+  }
+
+
+  public boolean tryAcquire() {
+    int limit = (int) getLimit();
+    for (int current = inFlight.get(); current < limit; current = inFlight.get()) {
+      if (inFlight.compareAndSet(current,current + 1)) return true;
+    }
+    return false;
+  }
+
+
+  public void release(long latencyNanos) {
+    inFlight.decrementAndGet();
+
+    if (latencyNanos > latencyTargetNanos) update(limit -> Math.max(minLimit,limit * backoffRatio));
+    else update(limit -> Math.min(maxLimit,limit + 1.0 / limit));
+  }
+
+
+  public double getLimit() {
+    return Double.longBitsToDouble(limitBits.get());
+  }
+
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+
+  private void update(DoubleUnaryOperator change) {
+    limitBits.updateAndGet(bits -> Double.doubleToLongBits(change.applyAsDouble(Double.longBitsToDouble(bits))));
+  }
+}
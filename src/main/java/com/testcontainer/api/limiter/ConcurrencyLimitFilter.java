@@ -0,0 +1,38 @@
+package com.testcontainer.api.limiter;
+
+import com.testcontainer.api.route.RouteResolver;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+//ROUTE = CONTROLLER-METHOD (SEE RouteResolver)
+//NOT-CONTROLLER REQUESTS (ACTUATOR, 404, ...) AND 'EXCLUDED-ROUTES' ARE NOT LIMITED
+public class ConcurrencyLimitFilter implements WebFilter {
+
+  private final RouteResolver routes;
+  private final ConcurrencyLimiter limiter;
+  private final Set<String> excludedRoutes;
+
+
+  public ConcurrencyLimitFilter(
+       RouteResolver routes,
+       ConcurrencyLimiter limiter,
+       Set<String> excludedRoutes) {
+    this.routes = routes;
+    this.limiter = limiter;
+    this.excludedRoutes = excludedRoutes;
+  }
+
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    return routes
+         .route(exchange)
+         .flatMap(route -> route.equals(RouteResolver.NONE) || excludedRoutes.contains(route)
+              ? chain.filter(exchange)
+              : limiter.limit(route,() -> chain.filter(exchange)));
+  }
+}
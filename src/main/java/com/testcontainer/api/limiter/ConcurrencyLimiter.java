@@ -0,0 +1,62 @@
+package com.testcontainer.api.limiter;
+
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.exceptions.LoadSheddingException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+//ONE AIMD-LIMIT PER ROUTE: A SLOW ROUTE DOES NOT SHED THE FAST ONES
+//METRICS: customer.limiter.limit / inflight (GAUGES), customer.limiter.rejected (COUNTER)
+public class ConcurrencyLimiter {
+
+  private final CustomerProperties.Limiter config;
+  private final MeterRegistry registry;
+  private final ConcurrentMap<String, AimdLimit> limits = new ConcurrentHashMap<>();
+
+
+  public ConcurrencyLimiter(CustomerProperties.Limiter config, MeterRegistry registry) {
+    this.config = config;
+    this.registry = registry;
+  }
+
+
+  //REJECTED BEFORE ANY WORK IS DONE: THE 503 IS AS FAST AS THE FILTER ITSELF
+  public <T> Mono<T> limit(String route, Supplier<Mono<T>> call) {
+    return Mono.defer(() -> {
+      AimdLimit limit = limits.computeIfAbsent(route,this::register);
+
+      if (!limit.tryAcquire()) {
+        registry.counter("customer.limiter.rejected","route",route).increment();
+        return Mono.error(new LoadSheddingException(route,(int) limit.getLimit()));
+      }
+
+      long start = System.nanoTime();
+      return call.get()
+                 .doFinally(signal -> limit.release(System.nanoTime() - start));
+    });
+  }
+
+
+  private AimdLimit register(String route) {
+    AimdLimit limit = new AimdLimit(
+         config.getInitialLimit(),
+         config.getMinLimit(),
+         config.getMaxLimit(),
+         config.getLatencyTarget().toNanos(),
+         config.getBackoffRatio());
+
+    Gauge.builder("customer.limiter.limit",limit,AimdLimit::getLimit)
+         .tag("route",route)
+         .register(registry);
+    Gauge.builder("customer.limiter.inflight",limit,AimdLimit::getInFlight)
+         .tag("route",route)
+         .register(registry);
+
+    return limit;
+  }
+}
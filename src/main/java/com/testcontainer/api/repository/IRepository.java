@@ -3,8 +3,13 @@ package com.testcontainer.api.repository;
 import com.testcontainer.api.entity.Customer;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
 
+//DERIVED-QUERIES HAVE NO PER-CALL 'MAX-TIME-MS': DEADLINE-AWARE READS LIVE IN THE FRAGMENT (IRepositoryCustom)
 @Repository
-public interface IRepository extends ReactiveCrudRepository<Customer, String> {
+public interface IRepository extends ReactiveCrudRepository<Customer, String>, IRepositoryCustom {
 
-}
\ No newline at end of file
+  //IMPLEMENTED BY THE FRAGMENT; RE-DECLARED HERE ONLY TO DISAMBIGUATE 'findById(ID)' x 'findById(String)'
+  @Override
+  Mono<Customer> findById(String id);
+}
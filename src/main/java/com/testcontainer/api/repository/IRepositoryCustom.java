@@ -0,0 +1,39 @@
+package com.testcontainer.api.repository;
+
+import com.testcontainer.api.dto.CustomerRating;
+import com.testcontainer.api.dto.RatingStats;
+import com.testcontainer.api.entity.Customer;
+import org.springframework.data.domain.Range;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+//READS HONOUR THE REQUEST-DEADLINE OF THE REACTOR-CONTEXT (SEE Deadline)
+public interface IRepositoryCustom {
+
+  //OVERRIDES 'ReactiveCrudRepository.findAll()' (FRAGMENTS WIN OVER THE BASE-REPOSITORY)
+  Flux<Customer> findAll();
+
+  Flux<Customer> findAll(int batchSize);
+
+  Flux<Customer> findAll(int batchSize, Set<String> fields);
+
+  Flux<Customer> findPageAfter(String lastId, int limit);
+
+  //OVERRIDES 'ReactiveCrudRepository.findById(ID)'
+  Mono<Customer> findById(String id);
+
+  //INDEX: email_unique (SEE MongoIndexConfig)
+  Mono<Customer> findByEmail(String email);
+
+  //INDEX: rating_id (SEE MongoIndexConfig)
+  Flux<Customer> findByRatingBetween(Range<Integer> range);
+
+  Flux<CustomerRating> findAllProjectedBy();
+
+  Flux<Customer> bulkSave(List<Customer> customers, int chunkSize, boolean ordered);
+
+  Mono<RatingStats> ratingStats(int bucketWidth);
+}
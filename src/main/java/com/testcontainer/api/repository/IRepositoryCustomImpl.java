@@ -0,0 +1,248 @@
+package com.testcontainer.api.repository;
+
+import com.mongodb.client.model.*;
+import com.testcontainer.api.deadline.Deadline;
+import com.testcontainer.api.dto.CustomerRating;
+import com.testcontainer.api.dto.RatingStats;
+import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.id.ICustomerIdGenerator;
+import com.testcontainer.api.id.ObjectIdGenerator;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+//FRAGMENT-IMPLEMENTATION: SPRING-DATA LOOKS FOR "<FRAGMENT-INTERFACE>Impl"
+//https://docs.spring.io/spring-data/mongodb/docs/current/reference/html/#repositories.custom-implementations
+public class IRepositoryCustomImpl implements IRepositoryCustom {
+
+  private final ReactiveMongoTemplate template;
+  private final ICustomerIdGenerator ids;
+
+
+  //SLICED CONTEXTS (@DataMongoTest) HAVE NO GENERATOR-BEAN: SAME OBJECT-IDS AS THE DRIVER
+  public IRepositoryCustomImpl(ReactiveMongoTemplate template, ObjectProvider<ICustomerIdGenerator> ids) {
+    this.template = template;
+    this.ids = ids.getIfAvailable(ObjectIdGenerator::new);
+  }
+
+
+  @Override
+  public Flux<Customer> findAll() {
+    return find(new Query());
+  }
+
+
+  @Override
+  public Flux<Customer> findAll(int batchSize) {
+    return find(new Query().cursorBatchSize(batchSize));
+  }
+
+
+  //PROJECTION: EXCLUDED FIELDS ARE NEVER DECODED FROM BSON NOR SENT BY THE SERVER
+  //(_ID IS ALWAYS RETURNED BY MONGO)
+  @Override
+  public Flux<Customer> findAll(int batchSize, Set<String> fields) {
+    Query query = new Query().cursorBatchSize(batchSize);
+
+    if (!fields.isEmpty()) query.fields().include(fields.toArray(new String[0]));
+
+    return find(query);
+  }
+
+
+  //KEYSET-PAGINATION: "_ID > LAST-ID" RIDES THE _ID INDEX,
+  //SO PAGE 'N' EXAMINES THE SAME NUMBER OF KEYS AS PAGE 1 (NO SKIP)
+  @Override
+  public Flux<Customer> findPageAfter(String lastId, int limit) {
+    Query query = new Query()
+         .with(Sort.by(Sort.Direction.ASC,"id"))
+         .limit(limit);
+
+    if (lastId != null) query.addCriteria(afterId(lastId));
+
+    return find(query);
+  }
+
+
+  @Override
+  public Mono<Customer> findById(String id) {
+    return findOne(new Query(where("id").is(id)));
+  }
+
+
+  @Override
+  public Mono<Customer> findByEmail(String email) {
+    return findOne(new Query(where("email").is(email)));
+  }
+
+
+  //SAME BOUNDS AS THE DERIVED 'BETWEEN': INCLUSIVE/EXCLUSIVE/UNBOUNDED PER SIDE
+  @Override
+  public Flux<Customer> findByRatingBetween(Range<Integer> range) {
+    Criteria rating = where("rating");
+
+    range.getLowerBound().getValue().ifPresent(
+         min -> { if (range.getLowerBound().isInclusive()) rating.gte(min); else rating.gt(min); });
+    range.getUpperBound().getValue().ifPresent(
+         max -> { if (range.getUpperBound().isInclusive()) rating.lte(max); else rating.lt(max); });
+
+    return find(new Query(rating));
+  }
+
+
+  //INTERFACE-PROJECTION: THE MONGO-PROJECTION IS DERIVED FROM CustomerRating'S GETTERS
+  @Override
+  public Flux<CustomerRating> findAllProjectedBy() {
+    Query query = new Query();
+    return Deadline.flux(maxTime -> template
+         .query(Customer.class)
+         .as(CustomerRating.class)
+         .matching(maxTime.map(query::maxTime).orElse(query))
+         .all());
+  }
+
+
+  //DEADLINE -> 'MAX-TIME-MS' (COVERS EVERY 'GET-MORE' OF THE CURSOR) + CLIENT-TIMER
+  private Flux<Customer> find(Query query) {
+    return Deadline.flux(maxTime -> template.find(maxTime.map(query::maxTime).orElse(query),Customer.class));
+  }
+
+
+  private Mono<Customer> findOne(Query query) {
+    return Deadline.mono(maxTime -> template.findOne(maxTime.map(query::maxTime).orElse(query),Customer.class));
+  }
+
+
+  //_ID IS ORDERED BY BSON-TYPE FIRST (STRING < OBJECT-ID):
+  //AFTER A STRING-ID, EVERY OBJECT-ID STILL BELONGS TO THE NEXT PAGES
+  private Criteria afterId(String lastId) {
+    if (ObjectId.isValid(lastId)) return where("id").gt(lastId);
+
+    return new Criteria().orOperator(
+         where("id").gt(lastId),
+         where("id").type(JsonSchemaObject.Type.OBJECT_ID)
+                                    );
+  }
+
+
+  //ONE 'BULK-WRITE' ROUND-TRIP PER CHUNK (INSTEAD OF ONE PER DOCUMENT)
+  //CHUNKS RUN IN SEQUENCE, SO THEY SHARE THE CALLER'S TRANSACTION/SESSION
+  //DEADLINE: CLIENT-TIMER ONLY ('BULK-WRITE' HAS NO 'MAX-TIME-MS'); NEXT CHUNKS ARE NOT SENT
+  @Override
+  public Flux<Customer> bulkSave(List<Customer> customers, int chunkSize, boolean ordered) {
+    BulkWriteOptions options = new BulkWriteOptions().ordered(ordered);
+
+    return Deadline.flux(maxTime -> Flux
+         .fromIterable(customers)
+         .buffer(chunkSize)
+         .concatMap(chunk -> bulkWrite(chunk,options)));
+  }
+
+
+  private Flux<Customer> bulkWrite(List<Customer> chunk, BulkWriteOptions options) {
+    List<WriteModel<Document>> models =
+         chunk.stream()
+              .map(this::toWriteModel)
+              .collect(Collectors.toList());
+
+    return template
+         .execute(Customer.class,collection -> collection.bulkWrite(models,options))
+         .thenMany(Flux.fromIterable(chunk));
+  }
+
+
+  //SAME SEMANTICS OF 'SAVE': NO-ID -> INSERT (ID CREATED HERE), WITH-ID -> UPSERT
+  private WriteModel<Document> toWriteModel(Customer customer) {
+    boolean isNew = customer.getId() == null;
+    if (isNew) customer.setId(ids.next());
+
+    Document document = new Document();
+    template.getConverter().write(customer,document);
+
+    if (isNew) return new InsertOneModel<>(document);
+
+    return new ReplaceOneModel<>(
+         Filters.eq("_id",document.get("_id")),
+         document,
+         new ReplaceOptions().upsert(true)
+    );
+  }
+
+
+  //ONE ROUND-TRIP, ONE COLLECTION-SCAN: '$FACET' RUNS BOTH SUB-PIPELINES OVER THE SAME INPUT
+  //- summary:   $group -> count/min/max/avg
+  //- histogram: floor(rating / width) -> $group -> count per bucket
+  @Override
+  public Mono<RatingStats> ratingStats(int bucketWidth) {
+    Aggregation aggregation = newAggregation(
+         match(where("rating").ne(null)),
+         facet(
+              group()
+                   .count().as("count")
+                   .min("rating").as("min")
+                   .max("rating").as("max")
+                   .avg("rating").as("mean"))
+              .as("summary")
+              .and(
+                   project()
+                        .and(ArithmeticOperators.Floor.floorValueOf(
+                             ArithmeticOperators.valueOf("rating").divideBy(bucketWidth)))
+                        .as("bucket"),
+                   group("bucket").count().as("count"),
+                   sort(Sort.Direction.ASC,"_id"))
+              .as("histogram"));
+
+    return Deadline.mono(maxTime -> template
+         .aggregate(
+              maxTime.map(time -> aggregation.withOptions(AggregationOptions.builder().maxTime(time).build()))
+                     .orElse(aggregation),
+              Customer.class,Document.class)
+         .next()
+         .map(result -> toRatingStats(result,bucketWidth)));
+  }
+
+
+  private RatingStats toRatingStats(Document result, int bucketWidth) {
+    List<Document> summary = result.getList("summary",Document.class);
+    List<RatingStats.Bucket> histogram =
+         result.getList("histogram",Document.class)
+               .stream()
+               .map(bucket -> {
+                 int from = ((Number) bucket.get("_id")).intValue() * bucketWidth;
+                 return new RatingStats.Bucket(
+                      from,
+                      from + bucketWidth - 1,
+                      ((Number) bucket.get("count")).longValue());
+               })
+               .collect(Collectors.toList());
+
+    if (summary.isEmpty()) return new RatingStats(0,null,null,null,histogram);
+
+    Document totals = summary.get(0);
+    return new RatingStats(
+         ((Number) totals.get("count")).longValue(),
+         ((Number) totals.get("min")).intValue(),
+         ((Number) totals.get("max")).intValue(),
+         ((Number) totals.get("mean")).doubleValue(),
+         histogram
+    );
+  }
+}
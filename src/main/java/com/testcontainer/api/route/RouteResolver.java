@@ -0,0 +1,39 @@
+package com.testcontainer.api.route;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+//ROUTE = CONTROLLER-METHOD (LOW CARDINALITY: "/customer/{id}" IS ONE ROUTE)
+//RESOLVED ONCE PER REQUEST, THEN SHARED VIA AN EXCHANGE-ATTRIBUTE (LIMITER, DEADLINE, ...)
+//NOT-CONTROLLER REQUESTS (ACTUATOR, 404, ...) -> 'NONE'
+@Component
+public class RouteResolver {
+
+  public static final String ROUTE_ATTRIBUTE = RouteResolver.class.getName() + ".route";
+  public static final String NONE = "";
+
+  private final RequestMappingHandlerMapping handlerMapping;
+
+
+  public RouteResolver(@Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+    this.handlerMapping = handlerMapping;
+  }
+
+
+  public Mono<String> route(ServerWebExchange exchange) {
+    String resolved = exchange.getAttribute(ROUTE_ATTRIBUTE);
+    if (resolved != null) return Mono.just(resolved);
+
+    return handlerMapping
+         .getHandler(exchange)
+         .map(handler -> handler instanceof HandlerMethod
+              ? ((HandlerMethod) handler).getMethod().getName()
+              : NONE)
+         .defaultIfEmpty(NONE)
+         .doOnNext(route -> exchange.getAttributes().put(ROUTE_ATTRIBUTE,route));
+  }
+}
@@ -1,18 +1,37 @@
 package com.testcontainer.api.service;
 
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.cache.ICustomerCache;
+import com.testcontainer.api.deadline.Deadline;
+import com.testcontainer.api.dto.ChunkCommit;
+import com.testcontainer.api.dto.CustomerPage;
+import com.testcontainer.api.dto.CustomerRating;
+import com.testcontainer.api.dto.IngestSummary;
+import com.testcontainer.api.dto.RatingStats;
 import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.exceptions.BatchValidationException;
+import com.testcontainer.api.exceptions.BulkWriteErrors;
+import com.testcontainer.api.exceptions.CustomerException;
 import com.testcontainer.api.repository.IRepository;
-import io.netty.util.internal.StringUtil;
+import com.testcontainer.api.writer.ICustomerWriter;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 //TUTORIAL: https://rieckpil.de/mongodb-testcontainers-setup-for-datamongotest/
 @Slf4j
@@ -21,62 +40,317 @@ import java.util.List;
 public class CustomerService implements ICustomerService {
 
 
+  private static final int MAX_BATCH_SIZE = 10_000;
+  private static final int MAX_PAGE_SIZE = 1_000;
+  private static final Set<String> PROJECTABLE_FIELDS = Set.of("id","email","rating");
+
+  //MICROMETER: MONO -> customer.service.flow.duration{operation=...} (REACTOR 'METRICS()')
+  //            FLUX -> customer.service.stream.duration{operation=...} (ONE TIMER PER SUBSCRIPTION)
+  private static final String METRICS = "customer.service";
+  private static final String OPERATION = "operation";
+
   private final IRepository repo;
 
+  private final CustomerProperties properties;
+
+  private final Validator validator;
+
+  private final TransactionalOperator transactionalOperator;
+
+  private final ICustomerCache cache;
+
+  private final ICustomerWriter writer;
 
+  private final SingleFlight<String, Customer> findByIdFlights = new SingleFlight<>();
+
+
+  //WRITES: CLIENT-TIMER ONLY (NO 'MAX-TIME-MS' ON INSERT/UPDATE/DELETE)
   @Override
   public Mono<Customer> save(Customer customer) {
-    return repo.save(customer);
+    return Deadline
+         .mono(maxTime -> writer.save(customer))
+         .doOnNext(saved -> evict(saved.getId()))
+         .name(METRICS).tag(OPERATION,"save").metrics();
   }
 
 
   @Override
   public Flux<Customer> findAll() {
-    return repo.findAll();
+    return repo
+         .findAll()
+         .transform(StreamMetrics.timed(METRICS,"findAll"));
+  }
+
+
+  //STREAMING: DOWNSTREAM-DEMAND IS CAPPED BY 'LIMIT-RATE',
+  //SO EACH CURSOR 'GET-MORE' FETCHES AT MOST 'BATCH-SIZE' DOCUMENTS
+  @Override
+  public Flux<Customer> findAll(int batchSize) {
+    return findAll(batchSize,Set.of());
+  }
+
+
+  @Override
+  public Flux<Customer> findAll(int batchSize, Set<String> fields) {
+    int size = Math.max(1,Math.min(batchSize,MAX_BATCH_SIZE));
+    return Flux
+         .defer(() -> repo.findAll(size,projectable(fields)))
+         .limitRate(size)
+         .transform(StreamMetrics.timed(METRICS,"findAllStream"));
+  }
+
+
+  @Override
+  public Flux<CustomerRating> findRatings() {
+    return repo
+         .findAllProjectedBy()
+         .transform(StreamMetrics.timed(METRICS,"findRatings"));
+  }
+
+
+  //FETCHES 'SIZE + 1' TO KNOW IF THERE IS A NEXT PAGE WITHOUT A COUNT-QUERY
+  @Override
+  public Mono<CustomerPage> findPage(String token, int size) {
+    int pageSize = Math.max(1,Math.min(size,MAX_PAGE_SIZE));
+
+    return Flux
+         .defer(() -> repo.findPageAfter(OpaqueTokens.decode(token,"Invalid page token"),pageSize + 1))
+         .collectList()
+         .map(list -> toPage(list,pageSize))
+         .name(METRICS).tag(OPERATION,"findPage").metrics();
   }
 
 
   @Override
   public Mono<Void> deleteAll() {
-    return repo.deleteAll();
+    return Deadline
+         .mono(maxTime -> repo.deleteAll())
+         .doOnSuccess(done -> evictAll())
+         .name(METRICS).tag(OPERATION,"deleteAll").metrics();
   }
 
 
+  //VALIDATE-BEFORE-WRITE: THE WHOLE BATCH IS CHECKED BEFORE THE TRANSACTION OPENS,
+  //SO MONGO ONLY SEES BATCHES THAT CAN COMMIT (ROLLBACK STAYS FOR WRITE-ERRORS)
   @Override
-  @Transactional
   public Flux<Customer> saveList_IfThrowExceptionExecutesTheRollback(List<Customer> customerList) {
 
-    return repo
-         .saveAll(customerList)
-         .doOnNext(this::throwResponseStatusExceptionWhenMissingEmail);
+    return validate(customerList)
+         .thenMany(Flux.defer(() -> transactionalOperator.transactional(bulkSave(customerList))))
+         .doOnTerminate(() -> invalidate(customerList))
+         .transform(StreamMetrics.timed(METRICS,"saveRollback"));
+  }
+
+
+  //CHUNKED-TRANSACTIONS: EACH CHUNK IS ATOMIC, THE BATCH IS NOT (SEE README)
+  //A FAILED CHUNK IS ROLLED BACK AND STOPS THE BATCH; THE LAST EMITTED CHECKPOINT
+  //RESUMES THE SAME BATCH RIGHT AFTER THE LAST COMMITTED CHUNK
+  @Override
+  public Flux<ChunkCommit> saveList_InChunkedTransactions(List<Customer> customerList, String checkpoint) {
+    int chunkSize = properties.getTransaction().getChunkSize();
+    String fingerprint = fingerprint(customerList);
+
+    return validate(customerList)
+         .then(Mono.fromCallable(() -> resumeOffset(checkpoint,fingerprint,customerList.size())))
+         .flatMapMany(offset -> {
+           AtomicInteger committed = new AtomicInteger(offset);
+           AtomicInteger chunkIndex = new AtomicInteger(offset / chunkSize);
+
+           return Flux
+                .fromIterable(customerList.subList(offset,customerList.size()))
+                .buffer(chunkSize)
+                .concatMap(chunk -> transactionalOperator
+                     .transactional(bulkSave(chunk))
+                     .doOnTerminate(() -> invalidate(chunk))
+                     .then(Mono.fromSupplier(() -> {
+                       int total = committed.addAndGet(chunk.size());
+                       return new ChunkCommit(
+                            chunkIndex.getAndIncrement(),
+                            chunk.size(),
+                            total,
+                            OpaqueTokens.encode(total + ":" + fingerprint)
+                       );
+                     })));
+         })
+         .transform(StreamMetrics.timed(METRICS,"saveChunked"));
   }
 
 
   @Override
   public Flux<Customer> saveAll(List<Customer> customerList) {
-    return repo.saveAll(customerList);
+    return bulkSave(customerList)
+         .doOnNext(saved -> evict(saved.getId()))
+         .transform(StreamMetrics.timed(METRICS,"saveAll"));
+  }
+
+
+  //'CONCAT-MAP' WRITES ONE BATCH AT A TIME AND PREFETCHES A BOUNDED NUMBER OF BATCHES:
+  //WHILE MONGO IS BUSY, DEMAND STOPS AND THE HTTP-UPLOAD IS NOT READ FURTHER
+  @Override
+  public Flux<IngestSummary> ingest(Flux<Customer> customerFlux) {
+    CustomerProperties.Ingest ingest = properties.getIngest();
+
+    return customerFlux
+         .bufferTimeout(ingest.getBatchSize(),ingest.getWindow())
+         .concatMap(this::ingestBatch)
+         .scan(IngestSummary::add)
+         .transform(StreamMetrics.timed(METRICS,"ingest"));
   }
 
 
   @Override
   public Mono<Void> deleteById(String id) {
-    return repo.deleteById(id);
+    return Deadline
+         .mono(maxTime -> repo.deleteById(id))
+         .doOnSuccess(done -> evict(id))
+         .name(METRICS).tag(OPERATION,"deleteById").metrics();
   }
 
 
+  //COALESCED: A BURST OF READS OF THE SAME ID ISSUES ONE CACHE/REPOSITORY CALL
   @Override
   public Mono<Customer> findById(String id) {
-    return repo.findById(id);
+    return findByIdFlights
+         .execute(id,key -> cache.get(key,repo::findById))
+         .name(METRICS).tag(OPERATION,"findById").metrics();
   }
 
 
-  private void throwResponseStatusExceptionWhenMissingEmail(Customer customer) {
-    if (StringUtil.isNullOrEmpty(customer.getEmail()))
-      throw new ResponseStatusException(
-           HttpStatus.BAD_REQUEST,
-           "Email is missing - ROLLBACK DONE!"
-      );
+  @Override
+  public Mono<Customer> findByEmail(String email) {
+    return repo
+         .findByEmail(email)
+         .switchIfEmpty(Mono.error(
+              new CustomerException(HttpStatus.NOT_FOUND,"Customer not found")))
+         .name(METRICS).tag(OPERATION,"findByEmail").metrics();
   }
-}
 
 
+  //INCLUSIVE BOUNDS: [MIN, MAX]
+  @Override
+  public Flux<Customer> findByRating(int min, int max) {
+    return repo
+         .findByRatingBetween(Range.closed(min,max))
+         .transform(StreamMetrics.timed(METRICS,"findByRating"));
+  }
+
+
+  @Override
+  public Mono<RatingStats> ratingStats(int bucketWidth) {
+    return repo
+         .ratingStats(Math.max(1,bucketWidth))
+         .name(METRICS).tag(OPERATION,"ratingStats").metrics();
+  }
+
+
+  private Flux<Customer> bulkSave(List<Customer> customerList) {
+    CustomerProperties.Bulk bulk = properties.getBulk();
+    return repo.bulkSave(customerList,bulk.getChunkSize(),bulk.isOrdered());
+  }
+
+
+  //UNORDERED: ONE BAD DOCUMENT (EX.: DUPLICATE-KEY) DOES NOT STOP THE OTHERS
+  //EVICTION ON EVERY TERMINATION: A PARTIAL BULK-ERROR STILL WROTE THE REST OF THE BATCH
+  private Mono<IngestSummary> ingestBatch(List<Customer> batch) {
+    List<Customer> valid =
+         batch.stream()
+              .filter(customer -> validator.validate(customer).isEmpty())
+              .collect(Collectors.toList());
+
+    long invalid = batch.size() - valid.size();
+
+    return repo
+         .bulkSave(valid,Math.max(1,valid.size()),false)
+         .count()
+         .doFinally(signal -> invalidate(valid))
+         .map(saved -> new IngestSummary(1,saved,invalid))
+         .onErrorResume(
+              error -> BulkWriteErrors.find(error) != null,
+              error -> {
+                long failed = BulkWriteErrors.find(error).getWriteErrors().size();
+                return Mono.just(new IngestSummary(1,valid.size() - failed,invalid + failed));
+              });
+  }
+
+
+  private void evict(String id) {
+    findByIdFlights.forget(id);
+    cache.invalidate(id);
+  }
+
+
+  private void evictAll() {
+    findByIdFlights.forgetAll();
+    cache.invalidateAll();
+  }
+
+
+  //TRANSACTIONAL-WRITES: INVALIDATED ONLY AFTER COMMIT/ROLLBACK, OTHERWISE A READ
+  //BETWEEN 'INVALIDATE' AND 'COMMIT' WOULD CACHE THE PRE-TRANSACTION DOCUMENT
+  private void invalidate(List<Customer> customerList) {
+    customerList.forEach(customer -> evict(customer.getId()));
+  }
+
+
+  private CustomerPage toPage(List<Customer> list, int pageSize) {
+    if (list.size() <= pageSize) return new CustomerPage(list,null);
+
+    List<Customer> content = list.subList(0,pageSize);
+    String lastId = content.get(pageSize - 1).getId();
+    return new CustomerPage(content,OpaqueTokens.encode(lastId));
+  }
+
+
+  //CHECKPOINT = "<COMMITTED-OFFSET>:<BATCH-FINGERPRINT>"
+  //THE FINGERPRINT REJECTS A CHECKPOINT REPLAYED AGAINST A DIFFERENT BATCH
+  private int resumeOffset(String checkpoint, String fingerprint, int batchSize) {
+    String decoded = OpaqueTokens.decode(checkpoint,"Invalid checkpoint");
+    if (decoded == null) return 0;
+
+    String[] parts = decoded.split(":",2);
+    try {
+      int offset = Integer.parseInt(parts[0]);
+      if (parts.length == 2 && parts[1].equals(fingerprint) && offset >= 0 && offset <= batchSize)
+        return offset;
+    } catch (NumberFormatException ex) {
+      //FALLS THROUGH TO 'BAD-REQUEST'
+    }
+    throw new CustomerException(HttpStatus.BAD_REQUEST,"Checkpoint does not match this batch");
+  }
+
+
+  private String fingerprint(List<Customer> customerList) {
+    int hash = 1;
+    for (Customer customer : customerList) {
+      hash = 31 * hash + Objects.hash(customer.getId(),customer.getEmail(),customer.getRating());
+    }
+    return Integer.toHexString(hash) + "-" + customerList.size();
+  }
+
+
+  //WHITELIST: AN UNKNOWN FIELD WOULD SILENTLY PROJECT TO AN "ID-ONLY" DOCUMENT
+  private Set<String> projectable(Set<String> fields) {
+    Set<String> unknown = new TreeSet<>(fields);
+    unknown.removeAll(PROJECTABLE_FIELDS);
+
+    if (!unknown.isEmpty()) throw new CustomerException(
+         HttpStatus.BAD_REQUEST,"Unknown fields: " + unknown);
+
+    return fields;
+  }
+
+
+  private Mono<Void> validate(List<Customer> customerList) {
+    return Mono.fromRunnable(() -> {
+      List<String> errors = new ArrayList<>();
+
+      for (int index = 0; index < customerList.size(); index++) {
+        for (ConstraintViolation<Customer> violation : validator.validate(customerList.get(index))) {
+          errors.add("[" + index + "] " + violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+      }
+
+      if (!errors.isEmpty()) throw new BatchValidationException(errors);
+    });
+  }
+}
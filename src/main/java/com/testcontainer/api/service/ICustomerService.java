@@ -1,23 +1,47 @@
 package com.testcontainer.api.service;
 
+import com.testcontainer.api.dto.ChunkCommit;
+import com.testcontainer.api.dto.CustomerPage;
+import com.testcontainer.api.dto.CustomerRating;
+import com.testcontainer.api.dto.IngestSummary;
+import com.testcontainer.api.dto.RatingStats;
 import com.testcontainer.api.entity.Customer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Set;
 
 public interface ICustomerService {
   Mono<Customer> save(Customer customer);
 
   Flux<Customer> findAll();
 
+  Flux<Customer> findAll(int batchSize);
+
+  Flux<Customer> findAll(int batchSize, Set<String> fields);
+
+  Flux<CustomerRating> findRatings();
+
+  Mono<CustomerPage> findPage(String token, int size);
+
   Mono<Void> deleteAll();
 
   Flux<Customer> saveList_IfThrowExceptionExecutesTheRollback(List<Customer> customer);
 
+  Flux<ChunkCommit> saveList_InChunkedTransactions(List<Customer> customerList, String checkpoint);
+
   Flux<Customer> saveAll(List<Customer> customerList);
 
+  Flux<IngestSummary> ingest(Flux<Customer> customerFlux);
+
   Mono<Void>  deleteById(String id);
 
   Mono<Customer> findById(String id);
+
+  Mono<Customer> findByEmail(String email);
+
+  Flux<Customer> findByRating(int min, int max);
+
+  Mono<RatingStats> ratingStats(int bucketWidth);
 }
@@ -0,0 +1,32 @@
+package com.testcontainer.api.service;
+
+import com.testcontainer.api.exceptions.CustomerException;
+import io.netty.util.internal.StringUtil;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+//URL-SAFE TOKENS HANDED TO CLIENTS (PAGE-TOKEN, CHECKPOINT-TOKEN)
+final class OpaqueTokens {
+
+  private OpaqueTokens() {
+  }
+
+
+  static String encode(String value) {
+    return Base64.getUrlEncoder()
+                 .withoutPadding()
+                 .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+
+  static String decode(String token, String errorMessage) {
+    if (StringUtil.isNullOrEmpty(token)) return null;
+    try {
+      return new String(Base64.getUrlDecoder().decode(token),StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException ex) {
+      throw new CustomerException(HttpStatus.BAD_REQUEST,errorMessage);
+    }
+  }
+}
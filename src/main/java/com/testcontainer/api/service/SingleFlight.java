@@ -0,0 +1,56 @@
+package com.testcontainer.api.service;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+//SINGLE-FLIGHT: CONCURRENT SUBSCRIBERS OF THE SAME KEY SHARE ONE IN-FLIGHT CALL
+//- SHARED WHILE RUNNING ('PUBLISH/REF-COUNT'), NEVER AFTER IT TERMINATES
+//- THE ENTRY IS REMOVED ON COMPLETE, ERROR OR WHEN EVERY SUBSCRIBER CANCELLED
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+
+  public Mono<V> execute(K key, Function<K, Mono<V>> call) {
+    return Mono.defer(() -> inFlight.computeIfAbsent(key,k -> share(k,call)));
+  }
+
+
+  //A WRITE MUST NOT BE FOLLOWED BY A READ THAT JOINS A FLIGHT STARTED BEFORE IT
+  public void forget(K key) {
+    if (key != null) inFlight.remove(key);
+  }
+
+
+  public void forgetAll() {
+    inFlight.clear();
+  }
+
+
+  public int size() {
+    return inFlight.size();
+  }
+
+
+  //REMOVED BEFORE THE SIGNAL REACHES THE SUBSCRIBERS: A LATE SUBSCRIBER
+  //STARTS A NEW CALL INSTEAD OF RE-CONNECTING TO A FINISHED ONE
+  private Mono<V> share(K key, Function<K, Mono<V>> call) {
+    AtomicReference<Mono<V>> self = new AtomicReference<>();
+
+    Mono<V> shared =
+         call.apply(key)
+             .doOnTerminate(() -> inFlight.remove(key,self.get()))
+             .doOnCancel(() -> inFlight.remove(key,self.get()))
+             .flux()
+             .publish()
+             .refCount()
+             .next();
+
+    self.set(shared);
+    return shared;
+  }
+}
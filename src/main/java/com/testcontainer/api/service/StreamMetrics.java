@@ -0,0 +1,43 @@
+package com.testcontainer.api.service;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+import java.util.function.Function;
+
+//FLUX-OPERATIONS: ONE TIMER PER SUBSCRIPTION, NOTHING PER ELEMENT
+//('FLUX.METRICS()' ALSO TIMES EVERY 'ON-NEXT', TOO MUCH ON THE STREAMING PATHS)
+//- <name>.stream.duration{operation=...,status=completed|error|cancelled}
+//SAME REGISTRY AS 'MONO.METRICS()' (GLOBAL, WHERE SPRING-BOOT ADDS ITS REGISTRY)
+final class StreamMetrics {
+
+  private StreamMetrics() {
+  }
+
+
+  static <T> Function<Flux<T>, Flux<T>> timed(String name, String operation) {
+    return flux -> Flux.defer(() -> {
+      Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+
+      return flux.doFinally(signal -> sample.stop(
+           Timer.builder(name + ".stream.duration")
+                .tag("operation",operation)
+                .tag("status",status(signal))
+                .register(Metrics.globalRegistry)));
+    });
+  }
+
+
+  private static String status(SignalType signal) {
+    switch (signal) {
+      case ON_COMPLETE:
+        return "completed";
+      case ON_ERROR:
+        return "error";
+      default:
+        return "cancelled";
+    }
+  }
+}
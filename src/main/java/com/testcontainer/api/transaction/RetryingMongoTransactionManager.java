@@ -0,0 +1,34 @@
+package com.testcontainer.api.transaction;
+
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.exceptions.TransactionErrors;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+//COMMIT-ONLY RETRY (UnknownTransactionCommitResult: NETWORK-ERROR/ELECTION DURING THE COMMIT)
+//THE WRITES ARE NOT REPLAYED: MONGO APPLIES A RE-SENT 'COMMIT-TRANSACTION' AT MOST ONCE
+public class RetryingMongoTransactionManager extends ReactiveMongoTransactionManager {
+
+  private final TransactionRetry retry;
+
+
+  public RetryingMongoTransactionManager(
+       ReactiveMongoDatabaseFactory databaseFactory,
+       CustomerProperties.Transaction config,
+       MeterRegistry registry) {
+    super(databaseFactory);
+    this.retry = new TransactionRetry(
+         "commit",TransactionErrors.UNKNOWN_COMMIT_RESULT,config.getCommitRetries(),config,registry);
+  }
+
+
+  @Override
+  protected Mono<Void> doCommit(
+       TransactionSynchronizationManager synchronizationManager,
+       ReactiveMongoTransactionObject transactionObject) {
+    return retry.apply(Mono.defer(() -> super.doCommit(synchronizationManager,transactionObject)));
+  }
+}
@@ -0,0 +1,58 @@
+package com.testcontainer.api.transaction;
+
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.exceptions.TransactionErrors;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/*------------------------------------------------------------
+                 TRANSACTION-RETRY (TransientTransactionError)
+  ------------------------------------------------------------
+a) WRITE-CONFLICTS BETWEEN CONCURRENT BATCHES ABORT ONE OF THE TRANSACTIONS:
+   IT IS RE-RUN FROM THE START (NEW SESSION/TRANSACTION), AFTER A JITTERED BACKOFF
+b) FLUX-RESULTS ARE RELEASED ONLY AFTER THE COMMIT:
+   A RETRIED ATTEMPT NEVER DUPLICATES ITEMS ALREADY SEEN DOWNSTREAM
+   (THE OPERATOR IS USED FOR BOUNDED BATCHES/CHUNKS, NOT FOR STREAMS)
+c) COMMIT-ONLY RETRIES (UnknownTransactionCommitResult): RetryingMongoTransactionManager
+  ------------------------------------------------------------*/
+public class RetryingTransactionalOperator implements TransactionalOperator {
+
+  private final TransactionalOperator delegate;
+  private final TransactionRetry retry;
+
+
+  public RetryingTransactionalOperator(
+       TransactionalOperator delegate,
+       CustomerProperties.Transaction config,
+       MeterRegistry registry) {
+    this.delegate = delegate;
+    this.retry = new TransactionRetry(
+         "transaction",TransactionErrors.TRANSIENT,config.getMaxRetries(),config,registry);
+  }
+
+
+  @Override
+  public <T> Flux<T> transactional(Flux<T> flux) {
+    return retry
+         .apply(Mono.defer(() -> delegate.transactional(flux).collectList()))
+         .flatMapIterable(committed -> committed);
+  }
+
+
+  //MONO: THE VALUE IS ONLY EMITTED AFTER THE COMMIT ('SINGLE-OR-EMPTY' OF THE OPERATOR)
+  @Override
+  public <T> Mono<T> transactional(Mono<T> mono) {
+    return retry.apply(Mono.defer(() -> delegate.transactional(mono)));
+  }
+
+
+  @Override
+  public <T> Flux<T> execute(TransactionCallback<T> action) {
+    return retry
+         .apply(Mono.defer(() -> delegate.execute(action).collectList()))
+         .flatMapIterable(committed -> committed);
+  }
+}
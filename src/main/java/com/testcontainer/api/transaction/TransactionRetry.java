@@ -0,0 +1,50 @@
+package com.testcontainer.api.transaction;
+
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.exceptions.TransactionErrors;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+//JITTERED EXPONENTIAL BACKOFF, ONLY FOR ERRORS CARRYING THE PHASE'S LABEL
+//- customer.transaction.attempts{phase}:  EVERY TRY (FIRST + RETRIES)
+//- customer.transaction.exhausted{phase}: RETRY-BUDGET SPENT (THE LAST ERROR IS PROPAGATED, NOT WRAPPED)
+final class TransactionRetry {
+
+  private static final double JITTER = 0.5;
+
+  private final String phase;
+  private final String label;
+  private final long maxRetries;
+  private final CustomerProperties.Transaction config;
+  private final MeterRegistry registry;
+
+
+  TransactionRetry(
+       String phase,
+       String label,
+       long maxRetries,
+       CustomerProperties.Transaction config,
+       MeterRegistry registry) {
+    this.phase = phase;
+    this.label = label;
+    this.maxRetries = maxRetries;
+    this.config = config;
+    this.registry = registry;
+  }
+
+
+  //'ATTEMPT' MUST BE DEFERRED: EVERY RETRY RE-SUBSCRIBES IT (A NEW TRANSACTION/COMMIT, NOT A REPLAY)
+  <T> Mono<T> apply(Mono<T> attempt) {
+    return attempt
+         .doOnSubscribe(subscription -> registry.counter("customer.transaction.attempts","phase",phase).increment())
+         .retryWhen(Retry.backoff(maxRetries,config.getMinBackoff())
+                         .maxBackoff(config.getMaxBackoff())
+                         .jitter(JITTER)
+                         .filter(error -> TransactionErrors.hasLabel(error,label))
+                         .onRetryExhaustedThrow((spec, signal) -> {
+                           registry.counter("customer.transaction.exhausted","phase",phase).increment();
+                           return signal.failure();
+                         }));
+  }
+}
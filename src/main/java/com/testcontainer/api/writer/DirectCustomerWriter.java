@@ -0,0 +1,19 @@
+package com.testcontainer.api.writer;
+
+import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.repository.IRepository;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+//WRITE-BEHIND DISABLED: ONE ROUND-TRIP PER SAVE
+@AllArgsConstructor
+public class DirectCustomerWriter implements ICustomerWriter {
+
+  private final IRepository repo;
+
+
+  @Override
+  public Mono<Customer> save(Customer customer) {
+    return repo.save(customer);
+  }
+}
@@ -0,0 +1,9 @@
+package com.testcontainer.api.writer;
+
+import com.testcontainer.api.entity.Customer;
+import reactor.core.publisher.Mono;
+
+public interface ICustomerWriter {
+
+  Mono<Customer> save(Customer customer);
+}
@@ -0,0 +1,148 @@
+package com.testcontainer.api.writer;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.exceptions.BulkWriteErrors;
+import com.testcontainer.api.exceptions.CustomerException;
+import com.testcontainer.api.repository.IRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/*------------------------------------------------------------
+                   WRITE-BEHIND (WRITE-COALESCING)
+  ------------------------------------------------------------
+a) CONCURRENT SINGLE-SAVES ARE QUEUED IN A UNICAST-SINK (CREATED IN THE CONSTRUCTOR)
+   (CONCURRENT EMITTERS SPIN ON 'FAIL-NON-SERIALIZED': ANY THREAD MAY SUBMIT)
+b) FLUSHED AS ONE UNORDERED BULK-WRITE WHEN 'BATCH-SIZE' SAVES ARE QUEUED
+   OR 'WINDOW' ELAPSED -> 'WINDOW' IS THE MAX EXTRA-LATENCY OF A SAVE
+c) EACH CALLER COMPLETES WITH ITS OWN DOCUMENT OR ITS OWN WRITE-ERROR
+   (EX.: ONE DUPLICATE-KEY DOES NOT FAIL THE OTHER SAVES OF THE BATCH)
+d) A QUEUED SAVE IS WRITTEN EVEN IF ITS CALLER CANCELS
+e) AFTER 'CLOSE': A SAVE FAILS AT ONCE WITH 503 (NEVER LEFT PENDING)
+  ------------------------------------------------------------*/
+public class WriteBehindCustomerWriter implements ICustomerWriter {
+
+  private final IRepository repo;
+  private final MongoExceptionTranslator translator = new MongoExceptionTranslator();
+  private final Sinks.Many<PendingSave> queue = Sinks.many().unicast().onBackpressureBuffer();
+  private volatile boolean closed;
+
+
+  public WriteBehindCustomerWriter(IRepository repo, int batchSize, Duration window, int concurrency) {
+    this.repo = repo;
+    queue.asFlux()
+         .bufferTimeout(batchSize,window)
+         .onBackpressureBuffer()
+         .flatMap(this::flush,concurrency)
+         .subscribe();
+  }
+
+
+  @Override
+  public Mono<Customer> save(Customer customer) {
+    if (closed) return Mono.error(closedError());
+
+    return Mono.create(result -> {
+      PendingSave pending = new PendingSave(customer,result);
+      if (emit(() -> queue.tryEmitNext(pending)).isFailure()) pending.fail(closedError());
+    });
+  }
+
+
+  //SHUTDOWN: COMPLETING THE SINK FLUSHES THE PARTIAL BATCH (BEST-EFFORT)
+  //A SAVE RACING WITH 'CLOSE' IS EITHER QUEUED BEFORE THE COMPLETE OR FAILS (FAIL-TERMINATED)
+  public void close() {
+    closed = true;
+    emit(queue::tryEmitComplete);
+  }
+
+
+  private static Sinks.EmitResult emit(Supplier<Sinks.EmitResult> attempt) {
+    Sinks.EmitResult result;
+    while ((result = attempt.get()) == Sinks.EmitResult.FAIL_NON_SERIALIZED) Thread.onSpinWait();
+    return result;
+  }
+
+
+  private static CustomerException closedError() {
+    return new CustomerException(HttpStatus.SERVICE_UNAVAILABLE,"Write-behind writer is closed");
+  }
+
+
+  private Mono<Void> flush(List<PendingSave> batch) {
+    List<Customer> customers =
+         batch.stream()
+              .map(PendingSave::getCustomer)
+              .collect(Collectors.toList());
+
+    return repo
+         .bulkSave(customers,customers.size(),false)
+         .then(Mono.fromRunnable(() -> batch.forEach(PendingSave::succeed)))
+         .onErrorResume(error -> Mono.fromRunnable(() -> fail(batch,error)))
+         .then();
+  }
+
+
+  //UNORDERED BULK-WRITE: EVERY DOCUMENT NOT LISTED IN 'WRITE-ERRORS' WAS WRITTEN
+  private void fail(List<PendingSave> batch, Throwable error) {
+    MongoBulkWriteException bulk = BulkWriteErrors.find(error);
+
+    if (bulk == null) {
+      batch.forEach(pending -> pending.fail(error));
+      return;
+    }
+
+    Map<Integer, BulkWriteError> writeErrors =
+         bulk.getWriteErrors()
+             .stream()
+             .collect(Collectors.toMap(BulkWriteError::getIndex,Function.identity()));
+
+    for (int index = 0; index < batch.size(); index++) {
+      BulkWriteError writeError = writeErrors.get(index);
+      if (writeError == null) batch.get(index).succeed();
+      else batch.get(index).fail(translate(writeError,bulk));
+    }
+  }
+
+
+  //SAME EXCEPTION A SINGLE 'REPO.SAVE' WOULD RAISE (EX.: DUPLICATE-KEY-EXCEPTION)
+  private Throwable translate(BulkWriteError writeError, MongoBulkWriteException bulk) {
+    MongoWriteException single = new MongoWriteException(writeError,bulk.getServerAddress());
+    DataAccessException translated = translator.translateExceptionIfPossible(single);
+    return translated != null ? translated : single;
+  }
+
+
+  @Getter
+  @AllArgsConstructor
+  private static class PendingSave {
+
+    private final Customer customer;
+    private final MonoSink<Customer> result;
+
+
+    void succeed() {
+      result.success(customer);
+    }
+
+
+    void fail(Throwable error) {
+      result.error(error);
+    }
+  }
+}
@@ -1,12 +1,18 @@
 package com.testcontainer.compose;
 
+import com.testcontainer.api.cache.NoOpCustomerCache;
+import com.testcontainer.api.config.CustomerProperties;
 import com.testcontainer.api.entity.Customer;
 import com.testcontainer.api.repository.IRepository;
 import com.testcontainer.api.service.CustomerService;
 import com.testcontainer.api.service.ICustomerService;
+import com.testcontainer.api.writer.DirectCustomerWriter;
 import com.testcontainer.compose.config.Config;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.testcontainers.containers.DockerComposeContainer;
 import org.testcontainers.junit.jupiter.Container;
 import reactor.blockhound.BlockingOperationError;
@@ -15,6 +21,8 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import javax.validation.Validation;
+
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -36,6 +44,9 @@ public class ServiceTests extends Config {
   @Autowired
   private IRepository repo;
 
+  @Autowired
+  private ReactiveMongoDatabaseFactory factory;
+
   private ICustomerService service;
 
 
@@ -57,7 +68,14 @@ public class ServiceTests extends Config {
     //------------------------------------------//
     //VERY IMPORTANT!!!!
     //DEPENDENCY INJECTION MUST BE DONE MANUALLY
-    service = new CustomerService(repo);
+    service = new CustomerService(
+         repo,
+         new CustomerProperties(),
+         Validation.buildDefaultValidatorFactory().getValidator(),
+         TransactionalOperator.create(new ReactiveMongoTransactionManager(factory)),
+         new NoOpCustomerCache(),
+         new DirectCustomerWriter(repo)
+    );
     //------------------------------------------//
 
     customer1 = customerWithName().create();
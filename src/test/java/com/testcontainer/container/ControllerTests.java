@@ -1,27 +1,52 @@
 package com.testcontainer.container;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
+import com.testcontainer.api.changes.CustomerChangeFeed;
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.deadline.DeadlineFilter;
+import com.testcontainer.api.dto.CustomerChange;
+import com.testcontainer.api.dto.CustomerPage;
+import com.testcontainer.api.dto.IngestSummary;
 import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.exceptions.CustomerException;
+import com.testcontainer.api.exceptions.ErrorBodies;
+import com.testcontainer.api.idempotency.IdempotencyStore;
 import com.testcontainer.api.service.ICustomerService;
 import com.testcontainer.container.config.Config;
 import com.testcontainer.container.config.ControllerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.restassured.http.ContentType;
 import io.restassured.module.webtestclient.RestAssuredWebTestClient;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.EnabledIf;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.blockhound.BlockingOperationError;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.testcontainer.databuilder.CustomerBuilder.customerWithIdAndName;
 import static com.testcontainer.databuilder.CustomerBuilder.customerWithName;
@@ -29,11 +54,20 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.containsStringIgnoringCase;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.http.HttpStatus.*;
 
 //@SpringBootTest(webEnvironment = RANDOM_PORT)
 //@AutoConfigureWebTestClient
+//EXPORTERS (PROMETHEUS) ARE DISABLED IN TESTS UNLESS "AUTO-CONFIGURE-METRICS"
+@AutoConfigureMetrics
+//LIMITER IS OPT-IN (customer.limiter.enabled)
+@TestPropertySource(properties = "customer.limiter.enabled=true")
 public class ControllerTests extends ControllerConfig {
 
   final private String enabledTest = "true";
@@ -49,7 +83,23 @@ public class ControllerTests extends ControllerConfig {
   @Autowired
   private ICustomerService service;
 
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private IdempotencyStore idempotency;
+
+  @Autowired
+  private CustomerChangeFeed changeFeed;
+
+  @Autowired
+  private ErrorBodies errorBodies;
+
+  @Autowired
+  private CustomerProperties properties;
+
   final private String REQ_MAP = "/customer";
+  final private MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
 
 
   @BeforeAll
@@ -172,6 +222,622 @@ public class ControllerTests extends ControllerConfig {
   }
 
 
+  @Test
+  @DisplayName("FindAll: NdJson-Stream")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void findAllStream() {
+
+    StepVerifier
+         .create(service.deleteAll()
+                        .thenMany(service.saveAll(customerList)))
+         .expectSubscription()
+         .expectNextCount(2L)
+         .verifyComplete();
+
+    Flux<Customer> streamed =
+         mockedWebClient
+              .get()
+              .uri(REQ_MAP + "?batchSize=1")
+              .accept(MediaType.APPLICATION_NDJSON)
+              .exchange()
+              .expectStatus()
+              .isOk()
+              .expectHeader()
+              .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+              .returnResult(Customer.class)
+              .getResponseBody();
+
+    StepVerifier
+         .create(streamed)
+         .expectSubscription()
+         .expectNextCount(2L)
+         .verifyComplete();
+  }
+
+
+  @Test
+  @DisplayName("FindPage")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void findPage() {
+
+    StepVerifier
+         .create(service.deleteAll()
+                        .thenMany(service.saveAll(customerList)))
+         .expectSubscription()
+         .expectNextCount(2L)
+         .verifyComplete();
+
+    CustomerPage firstPage =
+         mockedWebClient
+              .get()
+              .uri(REQ_MAP + "/page?size=1")
+              .exchange()
+              .expectStatus()
+              .isOk()
+              .expectBody(CustomerPage.class)
+              .returnResult()
+              .getResponseBody();
+
+    assertEquals(1,firstPage.getContent().size());
+    assertNotNull(firstPage.getNext());
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/page?size=1&token=" + firstPage.getNext())
+         .exchange()
+         .expectStatus()
+         .isOk()
+         .expectBody()
+         .jsonPath("$.content.length()")
+         .isEqualTo(1)
+         .jsonPath("$.next")
+         .doesNotExist();
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/page?token=@@@")
+         .exchange()
+         .expectStatus()
+         .isBadRequest();
+  }
+
+
+  @Test
+  @DisplayName("Ingest: NdJson-Upload")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void ingest() {
+    String ndjson =
+         "{\"email\":\"first@mail.com\",\"rating\":1}\n" +
+              "{\"rating\":2}\n" +
+              "{\"email\":\"second@mail.com\",\"rating\":3}\n";
+
+    StepVerifier
+         .create(service.deleteAll())
+         .expectSubscription()
+         .verifyComplete();
+
+    IngestSummary summary =
+         mockedWebClient
+              .post()
+              .uri(REQ_MAP + "/ingest")
+              .contentType(MediaType.APPLICATION_NDJSON)
+              .accept(MediaType.APPLICATION_NDJSON)
+              .bodyValue(ndjson)
+              .exchange()
+              .expectStatus()
+              .isOk()
+              .returnResult(IngestSummary.class)
+              .getResponseBody()
+              .blockLast();
+
+    assertEquals(2L,summary.getAccepted());
+    assertEquals(1L,summary.getRejected());
+
+    StepVerifier
+         .create(service.findAll())
+         .expectNextCount(2L)
+         .verifyComplete();
+  }
+
+
+  @Test
+  @DisplayName("SaveRollback: Invalid-Batch")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void saveRollback_invalidBatch() {
+    customerList.get(0).setEmail(null);
+    customerWithId.setEmail("");
+
+    mockedWebClient
+         .post()
+         .uri(REQ_MAP + "/saveRollback")
+         .bodyValue(customerList)
+         .exchange()
+         .expectStatus()
+         .isBadRequest()
+         .expectBody()
+         .jsonPath("$.errors.length()")
+         .isEqualTo(2);
+
+    StepVerifier
+         .create(service.findById(customerWithId.getId()))
+         .expectSubscription()
+         .expectNextCount(0L)
+         .verifyComplete();
+  }
+
+
+  @Test
+  @DisplayName("FindByEmail")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void findByEmail() {
+    StepVerifier
+         .create(service.deleteAll()
+                        .then(service.save(customerWithId)))
+         .expectNextCount(1L)
+         .verifyComplete();
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/email/{email}",customerWithId.getEmail())
+         .exchange()
+         .expectStatus()
+         .isOk()
+         .expectBody()
+         .jsonPath("$.id")
+         .isEqualTo(customerWithId.getId());
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/email/{email}","nobody@mail.com")
+         .exchange()
+         .expectStatus()
+         .isNotFound();
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/rating?min={min}&max={max}",customerWithId.getRating(),customerWithId.getRating())
+         .exchange()
+         .expectStatus()
+         .isOk()
+         .expectBody()
+         .jsonPath("$[0].id")
+         .isEqualTo(customerWithId.getId());
+  }
+
+
+  //BYTES/TIMINGS (BIG SEED): ComparisonLoadTests.findAllProjection (PROFILE 'LOAD')
+  @Test
+  @DisplayName("FindAll: Fields-Projection")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void findAllProjection() {
+    int seedSize = 50;
+
+    StepVerifier
+         .create(service.deleteAll()
+                        .thenMany(service.saveAll(
+                             IntStream.range(0,seedSize)
+                                      .mapToObj(i -> customerWithName().create())
+                                      .collect(Collectors.toList()))))
+         .expectNextCount(seedSize)
+         .verifyComplete();
+
+    byte[] full = fetch(REQ_MAP);
+    byte[] projected = fetch(REQ_MAP + "?fields=id,rating");
+
+    assertTrue(projected.length < full.length);
+    assertFalse(new String(projected).contains("email"));
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/ratings")
+         .exchange()
+         .expectStatus()
+         .isOk()
+         .expectBody()
+         .jsonPath("$.length()").isEqualTo(seedSize)
+         .jsonPath("$[0].rating").exists()
+         .jsonPath("$[0].email").doesNotExist();
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "?fields=id,password")
+         .exchange()
+         .expectStatus()
+         .isBadRequest();
+  }
+
+
+  private byte[] fetch(String uri) {
+    return mockedWebClient
+         .get()
+         .uri(uri)
+         .exchange()
+         .expectStatus()
+         .isOk()
+         .expectBody()
+         .returnResult()
+         .getResponseBody();
+  }
+
+
+  @Test
+  @DisplayName("Metrics: Endpoint/Service/Driver")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void metrics() {
+    StepVerifier
+         .create(service.deleteAll()
+                        .then(service.save(customerWithId)))
+         .expectNextCount(1L)
+         .verifyComplete();
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/email/{email}",customerWithId.getEmail())
+         .exchange()
+         .expectStatus()
+         .isOk();
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP)
+         .exchange()
+         .expectStatus()
+         .isOk();
+
+    String scrape =
+         mockedWebClient
+              .get()
+              .uri("/actuator/prometheus")
+              .exchange()
+              .expectStatus()
+              .isOk()
+              .expectBody(String.class)
+              .returnResult()
+              .getResponseBody();
+
+    //ENDPOINT-LATENCY (P50/P99/P999)
+    Timer endpoint = meterRegistry.find("http.server.requests")
+                                  .tag("uri","/customer/email/{email}")
+                                  .timer();
+    assertNotNull(endpoint);
+    assertTrue(endpoint.count() > 0);
+    assertTrue(scrape.contains("http_server_requests_seconds"));
+    assertTrue(scrape.contains("quantile=\"0.999\""));
+
+    //SERVICE-OPERATION
+    Timer operation = meterRegistry.find("customer.service.flow.duration")
+                                   .tag("operation","findByEmail")
+                                   .timer();
+    assertNotNull(operation);
+    assertTrue(operation.count() > 0);
+
+    //SERVICE-STREAM: ONE TIMING PER SUBSCRIPTION, NO PER-ELEMENT TIMER
+    Timer stream = meterRegistry.find("customer.service.stream.duration")
+                                .tag("operation","findAll")
+                                .tag("status","completed")
+                                .timer();
+    assertNotNull(stream);
+    assertTrue(stream.count() > 0);
+    assertNull(meterRegistry.find("customer.service.onNext.delay").tag("operation","findAll").timer());
+
+    //DRIVER: COMMAND-LISTENER + CONNECTION-POOL-LISTENER
+    Timer command = meterRegistry.find("mongodb.driver.commands")
+                                 .tag("command","find")
+                                 .timer();
+    assertNotNull(command);
+    assertTrue(command.count() > 0);
+    assertNotNull(meterRegistry.find("mongodb.driver.pool.size").gauge());
+    assertNotNull(meterRegistry.find("mongodb.driver.pool.checkedout").gauge());
+
+    //CONCURRENCY-LIMITER (PER ROUTE)
+    assertNotNull(meterRegistry.find("customer.limiter.limit").tag("route","findByEmail").gauge());
+    assertNotNull(meterRegistry.find("customer.limiter.inflight").tag("route","findByEmail").gauge());
+  }
+
+
+  @Test
+  @DisplayName("Save: Idempotency-Key")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void saveIdempotent() {
+    StepVerifier
+         .create(service.deleteAll())
+         .verifyComplete();
+
+    Customer customer = customerWithName().create();
+    String key = UUID.randomUUID().toString();
+
+    Customer first = postWithKey(key,customer).expectStatus()
+                                              .isCreated()
+                                              .expectBody(Customer.class)
+                                              .returnResult()
+                                              .getResponseBody();
+
+    //RETRY: SAME KEY + SAME BODY -> SAME RESULT, NO SECOND DOCUMENT
+    postWithKey(key,customer).expectStatus()
+                             .isCreated()
+                             .expectBody()
+                             .jsonPath("$.id")
+                             .isEqualTo(first.getId());
+
+    StepVerifier
+         .create(service.findAll())
+         .expectNextCount(1L)
+         .verifyComplete();
+
+    //SAME KEY + ANOTHER BODY -> REJECTED
+    postWithKey(key,customerWithName().create()).expectStatus()
+                                                .isEqualTo(UNPROCESSABLE_ENTITY);
+
+    //CONCURRENT DUPLICATES -> ONE WRITE, EVERYONE GETS ITS RESULT
+    AtomicInteger writes = new AtomicInteger();
+    Customer concurrent = customerWithName().create();
+
+    StepVerifier
+         .create(Flux.range(0,20)
+                     .flatMap(i -> idempotency
+                          .execute("concurrent-" + key,"save",concurrent,Customer.class,
+                                   () -> Mono.delay(Duration.ofMillis(200))
+                                             .then(Mono.fromCallable(writes::incrementAndGet))
+                                             .then(service.save(concurrent)))
+                          .subscribeOn(Schedulers.parallel()))
+                     .map(Customer::getId)
+                     .distinct())
+         .expectNextCount(1L)
+         .verifyComplete();
+
+    assertEquals(1,writes.get());
+  }
+
+
+  private WebTestClient.ResponseSpec postWithKey(String key, Customer customer) {
+    return mockedWebClient
+         .post()
+         .uri(REQ_MAP)
+         .header("Idempotency-Key",key)
+         .bodyValue(customer)
+         .exchange();
+  }
+
+
+  @Test
+  @DisplayName("Changes: feed + resume + fan-out")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void changes() {
+    StepVerifier
+         .create(service.deleteAll())
+         .verifyComplete();
+
+    //LIVE: THE INSERT IS SAVED AFTER THE CHANGE-STREAM IS OPEN
+    CustomerChange insert =
+         changes("?operations=insert")
+              .doOnSubscribe(subscription -> service.save(customerWithId)
+                                                    .delaySubscription(Duration.ofMillis(500))
+                                                    .subscribe())
+              .blockFirst(Duration.ofSeconds(10));
+
+    assertNotNull(insert);
+    assertEquals("insert",insert.getOperation());
+    assertEquals(customerWithId.getId(),insert.getId());
+    assertEquals(customerWithId.getEmail(),insert.getCustomer().getEmail());
+
+    //RESUME: EVENTS AFTER THE TOKEN, EVEN IF NOBODY WAS LISTENING
+    StepVerifier
+         .create(service.deleteById(customerWithId.getId()))
+         .verifyComplete();
+
+    StepVerifier
+         .create(changes("?operations=delete&resumeToken=" + insert.getResumeToken()).take(1))
+         .assertNext(delete -> {
+           assertEquals(customerWithId.getId(),delete.getId());
+           assertNull(delete.getCustomer());
+         })
+         .verifyComplete();
+
+    //FAN-OUT: MANY SUBSCRIBERS, ONE CHANGE-STREAM
+    List<Disposable> subscribers = List.of(
+         changeFeed.changes(Set.of(),null).subscribe(),
+         changeFeed.changes(Set.of("insert"),null).subscribe(),
+         changeFeed.changes(Set.of("delete"),null).subscribe()
+                                          );
+    assertEquals(1,changeFeed.getOpenStreams());
+
+    subscribers.forEach(Disposable::dispose);
+    assertEquals(0,changeFeed.getOpenStreams());
+
+    //UNKNOWN OPERATION
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/changes?operations=upsert")
+         .accept(MediaType.APPLICATION_NDJSON)
+         .exchange()
+         .expectStatus()
+         .isBadRequest();
+  }
+
+
+  private Flux<CustomerChange> changes(String query) {
+    return mockedWebClient
+         .mutate()
+         .responseTimeout(Duration.ofSeconds(10))
+         .build()
+         .get()
+         .uri(REQ_MAP + "/changes" + query)
+         .accept(MediaType.APPLICATION_NDJSON)
+         .exchange()
+         .expectStatus()
+         .isOk()
+         .returnResult(CustomerChange.class)
+         .getResponseBody();
+  }
+
+
+  @Test
+  @DisplayName("WireFormats: CBOR + Smile")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void wireFormats() throws IOException {
+    StepVerifier
+         .create(service.deleteAll()
+                        .thenMany(service.saveAll(customerList)))
+         .expectNextCount(2L)
+         .verifyComplete();
+
+    for (MediaType mediaType : List.of(MediaType.APPLICATION_CBOR,SMILE)) {
+      ObjectMapper mapper = mediaType.equals(SMILE)
+           ? Jackson2ObjectMapperBuilder.smile().build()
+           : Jackson2ObjectMapperBuilder.cbor().build();
+
+      //RESPONSE: FLUX -> ONE BINARY ARRAY
+      byte[] customers =
+           mockedWebClient
+                .get()
+                .uri(REQ_MAP)
+                .accept(mediaType)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .contentTypeCompatibleWith(mediaType)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+      assertEquals(2,mapper.readValue(customers,Customer[].class).length);
+
+      //REQUEST-BODY
+      Customer customer = customerWithName().create();
+      byte[] saved =
+           mockedWebClient
+                .post()
+                .uri(REQ_MAP)
+                .contentType(mediaType)
+                .accept(mediaType)
+                .bodyValue(mapper.writeValueAsBytes(customer))
+                .exchange()
+                .expectStatus()
+                .isCreated()
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+      Customer savedCustomer = mapper.readValue(saved,Customer.class);
+      assertNotNull(savedCustomer.getId());
+      assertEquals(customer.getEmail(),savedCustomer.getEmail());
+    }
+  }
+
+
+  @Test
+  @DisplayName("Errors: counter + pre-encoded + full trace")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void errors() {
+    StepVerifier
+         .create(service.deleteAll())
+         .verifyComplete();
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/email/{email}","unknown@mail.com")
+         .exchange()
+         .expectStatus()
+         .isNotFound()
+         .expectBody()
+         .jsonPath("$.mensagem")
+         .isEqualTo("404 NOT_FOUND \"Customer not found\"");
+
+    Counter notFound = meterRegistry.find("customer.errors")
+                                    .tag("exception","CustomerException")
+                                    .tag("status","404")
+                                    .counter();
+    assertNotNull(notFound);
+    assertTrue(notFound.count() > 0);
+
+    //FAST-MODE OFF: FULL STACK-TRACE ('?trace=true')
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/email/{email}?trace=true","unknown@mail.com")
+         .exchange()
+         .expectStatus()
+         .isNotFound()
+         .expectBody()
+         .jsonPath("$.trace")
+         .value(trace -> assertTrue(trace.toString().contains("CustomerService")));
+
+    //SAME BODY-BYTES FOR THE SAME STATUS + REASON
+    CustomerException first = new CustomerException(NOT_FOUND,"Customer not found");
+    CustomerException second = new CustomerException(NOT_FOUND,"Customer not found");
+
+    assertTrue(first.getStackTrace().length > 0);
+    assertSame(errorBodies.body(first),errorBodies.body(second));
+  }
+
+
+  @Test
+  @DisplayName("Deadline: X-Request-Timeout")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void requestTimeout() {
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP)
+         .header(DeadlineFilter.REQUEST_TIMEOUT,"5s")
+         .exchange()
+         .expectStatus()
+         .isOk();
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP)
+         .header(DeadlineFilter.REQUEST_TIMEOUT,"soon")
+         .exchange()
+         .expectStatus()
+         .isBadRequest();
+  }
+
+
+  @Test
+  @DisplayName("Deadline: Long Routes Not Cut Off")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void deadlineLongRoutes() {
+    Duration defaultTimeout = properties.getDeadline().getDefaultTimeout();
+    properties.getDeadline().setDefaultTimeout(Duration.ofMillis(300));
+
+    //UPLOAD LASTS ~1S (> DEFAULT-TIMEOUT): SEVERAL BULK-WRITES START AFTER IT EXPIRED
+    Flux<Customer> slowUpload =
+         Flux.range(0,5)
+             .delayElements(Duration.ofMillis(200))
+             .map(index -> customerWithName().create());
+
+    try {
+      StepVerifier
+           .create(service.deleteAll())
+           .expectSubscription()
+           .verifyComplete();
+
+      IngestSummary summary =
+           mockedWebClient
+                .post()
+                .uri(REQ_MAP + "/ingest")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(slowUpload,Customer.class)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .returnResult(IngestSummary.class)
+                .getResponseBody()
+                .blockLast();
+
+      assertEquals(5L,summary.getAccepted());
+
+      StepVerifier
+           .create(service.findAll())
+           .expectNextCount(5L)
+           .verifyComplete();
+    } finally {
+      properties.getDeadline().setDefaultTimeout(defaultTimeout);
+    }
+  }
+
+
   @Test
   @DisplayName("DeleteById")
   @EnabledIf(expression = enabledTest, loadContext = true)
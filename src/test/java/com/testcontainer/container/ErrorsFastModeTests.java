@@ -0,0 +1,103 @@
+package com.testcontainer.container;
+
+import com.testcontainer.api.exceptions.CustomerException;
+import com.testcontainer.api.service.ICustomerService;
+import com.testcontainer.container.config.Config;
+import com.testcontainer.container.config.ControllerConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+//@SpringBootTest(webEnvironment = RANDOM_PORT)
+//@AutoConfigureWebTestClient
+@TestPropertySource(properties = "customer.errors.fast-mode=true")
+public class ErrorsFastModeTests extends ControllerConfig {
+
+  final private String enabledTest = "true";
+  final private String REQ_MAP = "/customer";
+
+  @Autowired
+  WebTestClient mockedWebClient;
+
+  @Autowired
+  private ICustomerService service;
+
+
+  @BeforeAll
+  public static void beforeAll() {
+    Config.beforeAll();
+  }
+
+
+  @AfterAll
+  public static void afterAll() {
+    //STACKLESS IS JVM-WIDE: OTHER (CACHED) CONTEXTS RUN WITH FAST-MODE OFF
+    CustomerException.stackless(false);
+    Config.afterAll();
+  }
+
+
+  @Test
+  @DisplayName("Errors Fast-Mode: Pre-Encoded Body")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void fastModeBody() {
+    StepVerifier
+         .create(service.deleteAll())
+         .verifyComplete();
+
+    //NO PER-REQUEST FIELDS (timestamp, path, requestId)
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/email/{email}","unknown@mail.com")
+         .exchange()
+         .expectStatus()
+         .isNotFound()
+         .expectHeader()
+         .contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+         .expectBody()
+         .jsonPath("$.status").isEqualTo(404)
+         .jsonPath("$.error").isEqualTo("Not Found")
+         .jsonPath("$.mensagem").isEqualTo("404 NOT_FOUND \"Customer not found\"")
+         .jsonPath("$.developerMensagem").exists()
+         .jsonPath("$.timestamp").doesNotExist()
+         .jsonPath("$.path").doesNotExist()
+         .jsonPath("$.requestId").doesNotExist();
+
+    //DOMAIN-ERRORS ARE STACKLESS
+    assertEquals(0,new CustomerException(NOT_FOUND,"Customer not found").getStackTrace().length);
+  }
+
+
+  @Test
+  @DisplayName("Errors Fast-Mode: '?trace=true' Gets The Full Body")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void fastModeTrace() {
+    StepVerifier
+         .create(service.deleteAll())
+         .verifyComplete();
+
+    mockedWebClient
+         .get()
+         .uri(REQ_MAP + "/email/{email}?trace=true","unknown@mail.com")
+         .exchange()
+         .expectStatus()
+         .isNotFound()
+         .expectBody()
+         .jsonPath("$.status").isEqualTo(404)
+         .jsonPath("$.mensagem").isEqualTo("404 NOT_FOUND \"Customer not found\"")
+         .jsonPath("$.timestamp").exists()
+         .jsonPath("$.path").isEqualTo(REQ_MAP + "/email/unknown@mail.com")
+         .jsonPath("$.requestId").exists()
+         .jsonPath("$.trace").exists();
+  }
+}
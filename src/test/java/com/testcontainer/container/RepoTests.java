@@ -1,11 +1,25 @@
 package com.testcontainer.container;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.testcontainer.api.config.MongoClientConfig;
+import com.testcontainer.api.config.MongoClientProperties;
+import com.testcontainer.api.config.MongoIndexConfig;
+import com.testcontainer.api.deadline.Deadline;
+import com.testcontainer.api.dto.RatingStats;
 import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.exceptions.DeadlineExceededException;
 import com.testcontainer.api.repository.IRepository;
 import com.testcontainer.container.config.Config;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Range;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.test.context.junit.jupiter.EnabledIf;
 import reactor.blockhound.BlockingOperationError;
 import reactor.core.publisher.Flux;
@@ -13,14 +27,23 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.testcontainer.databuilder.CustomerBuilder.customerWithName;
+import static com.testcontainer.databuilder.CustomerBuilder.customerWithUniqueEmail;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class RepoTests extends Config {
@@ -33,6 +56,10 @@ public class RepoTests extends Config {
   @Autowired
   private IRepository repo;
 
+  @Lazy
+  @Autowired
+  private ReactiveMongoTemplate template;
+
 
   @BeforeAll
   public static void beforeAll() {
@@ -138,6 +165,373 @@ public class RepoTests extends Config {
   }
 
 
+  @Test
+  @DisplayName("Find: Keyset-Pages")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void findPageAfter() {
+    List<Customer> seed =
+         IntStream.range(0,10)
+                  .mapToObj(i -> customerWithName().create())
+                  .collect(Collectors.toList());
+
+    StepVerifier
+         .create(repo.deleteAll()
+                     .thenMany(repo.saveAll(seed)))
+         .expectNextCount(10L)
+         .verifyComplete();
+
+    List<String> visited = new ArrayList<>();
+    String lastId = null;
+    List<Customer> page;
+    do {
+      page = repo.findPageAfter(lastId,3)
+                 .collectList()
+                 .block();
+      page.forEach(customer -> visited.add(customer.getId()));
+      if (!page.isEmpty()) lastId = page.get(page.size() - 1).getId();
+    } while (page.size() == 3);
+
+    assertEquals(10,visited.size());
+    assertEquals(10,new HashSet<>(visited).size());
+
+    List<String> sortedIds = new ArrayList<>(visited);
+    sortedIds.sort(String::compareTo);
+    assertEquals(sortedIds,visited);
+
+    //DEEP-PAGE COSTS THE SAME AS THE FIRST PAGE: SAME KEYS EXAMINED
+    assertEquals(
+         keysExaminedAfter(sortedIds.get(0),2),
+         keysExaminedAfter(sortedIds.get(6),2)
+                );
+  }
+
+
+  private int keysExaminedAfter(String lastId, int limit) {
+    Document find =
+         new Document("find","customers")
+              .append("filter",new Document("_id",new Document("$gt",new ObjectId(lastId))))
+              .append("sort",new Document("_id",1))
+              .append("limit",limit);
+
+    Document explain =
+         template.executeCommand(new Document("explain",find)
+                                      .append("verbosity","executionStats"))
+                 .block();
+
+    return explain.get("executionStats",Document.class)
+                  .getInteger("totalKeysExamined");
+  }
+
+
+  @Test
+  @DisplayName("BulkSave: Chunks")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void bulkSave() {
+    List<Customer> seed =
+         IntStream.range(0,5)
+                  .mapToObj(i -> customerWithName().create())
+                  .collect(Collectors.toList());
+
+    StepVerifier
+         .create(repo.deleteAll()
+                     .thenMany(repo.bulkSave(seed,2,false)))
+         .expectNextSequence(seed)
+         .verifyComplete();
+
+    seed.forEach(customer -> assertNotNull(customer.getId()));
+
+    //EXISTING-ID: UPSERT REPLACES THE DOCUMENT, NO DUPLICATES
+    seed.get(0).setRating(99);
+
+    StepVerifier
+         .create(repo.bulkSave(seed,2,true)
+                     .thenMany(repo.findAll()))
+         .expectNextCount(5L)
+         .verifyComplete();
+
+    StepVerifier
+         .create(repo.findById(seed.get(0).getId()))
+         .assertNext(customer -> assertEquals(99,customer.getRating()))
+         .verifyComplete();
+  }
+
+
+  @Test
+  @DisplayName("Find: Indexed Email/Rating")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void findByIndexedFields() {
+    StepVerifier
+         .create(repo.deleteAll()
+                     .then(new MongoIndexConfig(template).ensureIndexes())
+                     .thenMany(customerFlux))
+         .expectNextCount(2L)
+         .verifyComplete();
+
+    Customer customer = customerList.get(0);
+
+    StepVerifier
+         .create(repo.findByEmail(customer.getEmail()))
+         .assertNext(found -> assertEquals(customer.getId(),found.getId()))
+         .verifyComplete();
+
+    StepVerifier
+         .create(repo.findByRatingBetween(Range.closed(customer.getRating(),customer.getRating())))
+         .thenConsumeWhile(found -> found.getRating().equals(customer.getRating()))
+         .verifyComplete();
+
+    assertTrue(winningStages(new Document("email",customer.getEmail())).contains("IXSCAN"));
+
+    //PARTIAL UNIQUE-INDEX: CUSTOMERS WITHOUT EMAIL DO NOT COLLIDE ON 'NULL'
+    Customer noEmail1 = new Customer(null,null,1);
+    Customer noEmail2 = new Customer(null,null,2);
+
+    StepVerifier
+         .create(repo.save(noEmail1)
+                     .then(repo.save(noEmail2)))
+         .expectNextCount(1L)
+         .verifyComplete();
+
+    assertTrue(winningStages(
+         new Document("rating",new Document("$gte",1).append("$lte",10)))
+                    .contains("IXSCAN"));
+  }
+
+
+  //TIMINGS (BIG SEED): ComparisonLoadTests.ratingStats (PROFILE 'LOAD')
+  @Test
+  @DisplayName("Stats: Aggregation x Client-Side")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void ratingStats() {
+    int seedSize = 500;
+    int bucketWidth = 10;
+
+    List<Customer> seed =
+         IntStream.range(0,seedSize)
+                  .mapToObj(i -> customerWithUniqueEmail().create())
+                  .collect(Collectors.toList());
+
+    repo.deleteAll()
+        .thenMany(repo.bulkSave(seed,seedSize,false))
+        .blockLast();
+
+    RatingStats server = repo.ratingStats(bucketWidth).block();
+    IntSummaryStatistics client =
+         repo.findAll()
+             .map(Customer::getRating)
+             .collect(Collectors.summarizingInt(Integer::intValue))
+             .block();
+
+    assertEquals(client.getCount(),server.getCount());
+    assertEquals(client.getMin(),server.getMin());
+    assertEquals(client.getMax(),server.getMax());
+    assertEquals(client.getAverage(),server.getMean(),1e-9);
+
+    Map<Integer,Long> expected =
+         seed.stream()
+             .collect(Collectors.groupingBy(customer -> customer.getRating() / bucketWidth * bucketWidth,
+                                            TreeMap::new,
+                                            Collectors.counting()));
+    Map<Integer,Long> histogram =
+         server.getHistogram()
+               .stream()
+               .collect(Collectors.toMap(RatingStats.Bucket::getFrom,
+                                         RatingStats.Bucket::getCount,
+                                         Long::sum,
+                                         TreeMap::new));
+    assertEquals(expected,histogram);
+  }
+
+
+  @Test
+  @DisplayName("MongoClient: Unset Properties Keep URI-Options")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void mongoClientSettings_keepUriOptions() {
+    ConnectionString url = new ConnectionString(
+         "mongodb://localhost/db?maxPoolSize=7&connectTimeoutMS=1500&compressors=zlib");
+
+    MongoClientSettings untouched = customized(new MongoClientProperties(),url);
+    assertEquals(7,untouched.getConnectionPoolSettings().getMaxSize());
+    assertEquals(1500,untouched.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS));
+    assertEquals(1,untouched.getCompressorList().size());
+
+    //SET -> WINS OVER THE URI; STILL UNSET -> KEPT
+    MongoClientProperties properties = new MongoClientProperties();
+    properties.getPool().setMaxSize(20);
+    properties.setCompressors(List.of());
+
+    MongoClientSettings overridden = customized(properties,url);
+    assertEquals(20,overridden.getConnectionPoolSettings().getMaxSize());
+    assertEquals(1500,overridden.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS));
+    assertTrue(overridden.getCompressorList().isEmpty());
+  }
+
+
+  private MongoClientSettings customized(MongoClientProperties properties, ConnectionString url) {
+    MongoClientSettings.Builder settings = MongoClientSettings.builder().applyConnectionString(url);
+    new MongoClientConfig(properties).mongoClientSettingsCustomizer().customize(settings);
+    return settings.build();
+  }
+
+
+  //BYTES PER COMPRESSOR (BIG SEED): ComparisonLoadTests.findAllCompressors (PROFILE 'LOAD')
+  @Test
+  @DisplayName("FindAll: Wire-Compressors")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void findAllCompressors() {
+    int seedSize = 50;
+
+    repo.deleteAll()
+        .thenMany(repo.bulkSave(IntStream.range(0,seedSize)
+                                         .mapToObj(i -> customerWithName().create())
+                                         .collect(Collectors.toList()),seedSize,false))
+        .blockLast();
+
+    MongoClientProperties properties = new MongoClientProperties();
+    properties.setCompressors(List.of(MongoClientProperties.Compressor.values()));
+    ConnectionString url = new ConnectionString(sharedContainer.getReplicaSetUrl());
+
+    try (MongoClient client = MongoClients.create(customized(properties,url))) {
+      StepVerifier
+           .create(new ReactiveMongoTemplate(client,url.getDatabase()).findAll(Customer.class))
+           .expectNextCount(seedSize)
+           .verifyComplete();
+    }
+  }
+
+
+  @Test
+  @DisplayName("FindAll: Deadline + Cancelled Cursor")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void findAllDeadline() throws InterruptedException {
+    List<Customer> customers =
+         IntStream.range(0,500)
+                  .mapToObj(i -> customerWithUniqueEmail().create())
+                  .collect(Collectors.toList());
+
+    StepVerifier
+         .create(repo.deleteAll()
+                     .thenMany(repo.bulkSave(customers,customers.size(),false)))
+         .expectNextCount(500L)
+         .verifyComplete();
+
+    long baseline = openCursors();
+
+    //ABANDONED: THE CLIENT TAKES A FEW AND GOES AWAY -> CANCEL -> 'KILL-CURSORS'
+    StepVerifier
+         .create(repo.findAll(10)
+                     .contextWrite(Deadline.after(Duration.ofSeconds(30))::writeTo)
+                     .take(5))
+         .expectNextCount(5L)
+         .verifyComplete();
+
+    awaitOpenCursors(baseline);
+
+    //EXPIRED: SLOW CONSUMER, SHORT DEADLINE -> 504-ERROR + 'KILL-CURSORS'
+    StepVerifier
+         .create(repo.findAll(10)
+                     .delayElements(Duration.ofMillis(20))
+                     .contextWrite(Deadline.after(Duration.ofMillis(300))::writeTo))
+         .thenConsumeWhile(customer -> true)
+         .verifyError(DeadlineExceededException.class);
+
+    awaitOpenCursors(baseline);
+
+    //ALREADY EXPIRED: NOTHING IS SENT TO MONGO
+    StepVerifier
+         .create(repo.findAll(10)
+                     .contextWrite(Deadline.after(Duration.ZERO)::writeTo))
+         .verifyError(DeadlineExceededException.class);
+  }
+
+
+  @Test
+  @DisplayName("FindByRating/FindByEmail: Deadline")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void derivedReadsDeadline() {
+    List<Customer> customers =
+         IntStream.range(0,200)
+                  .mapToObj(i -> customerWithUniqueEmail().create())
+                  .collect(Collectors.toList());
+    customers.forEach(customer -> customer.setRating(10));
+
+    StepVerifier
+         .create(repo.deleteAll()
+                     .thenMany(repo.bulkSave(customers,customers.size(),false)))
+         .expectNextCount(200L)
+         .verifyComplete();
+
+    //UNBOUNDED RANGE + SLOW CONSUMER, SHORT DEADLINE -> 504-ERROR
+    StepVerifier
+         .create(repo.findByRatingBetween(Range.closed(0,100))
+                     .delayElements(Duration.ofMillis(20))
+                     .contextWrite(Deadline.after(Duration.ofMillis(300))::writeTo))
+         .thenConsumeWhile(customer -> true)
+         .verifyError(DeadlineExceededException.class);
+
+    //ALREADY EXPIRED: NOTHING IS SENT TO MONGO
+    StepVerifier
+         .create(repo.findByEmail(customers.get(0).getEmail())
+                     .contextWrite(Deadline.after(Duration.ZERO)::writeTo))
+         .verifyError(DeadlineExceededException.class);
+
+    StepVerifier
+         .create(repo.findById(customers.get(0).getId())
+                     .contextWrite(Deadline.after(Duration.ZERO)::writeTo))
+         .verifyError(DeadlineExceededException.class);
+
+    //WITHIN THE DEADLINE: SAME RESULTS AS WITHOUT IT
+    StepVerifier
+         .create(repo.findByEmail(customers.get(0).getEmail())
+                     .contextWrite(Deadline.after(Duration.ofSeconds(30))::writeTo))
+         .expectNextMatches(customer -> customer.getId().equals(customers.get(0).getId()))
+         .verifyComplete();
+  }
+
+
+  private long openCursors() {
+    return template.executeCommand(new Document("serverStatus",1))
+                   .map(status -> status.get("metrics",Document.class)
+                                        .get("cursor",Document.class)
+                                        .get("open",Document.class)
+                                        .get("total",Number.class))
+                   .block()
+                   .longValue();
+  }
+
+
+  //'KILL-CURSORS' IS SENT ASYNCHRONOUSLY AFTER THE CANCEL
+  private void awaitOpenCursors(long expected) throws InterruptedException {
+    for (int i = 0; i < 50 && openCursors() > expected; i++) Thread.sleep(100);
+    assertEquals(expected,openCursors());
+  }
+
+
+  private List<String> winningStages(Document filter) {
+    Document find = new Document("find","customers").append("filter",filter);
+
+    Document explain =
+         template.executeCommand(new Document("explain",find)
+                                      .append("verbosity","queryPlanner"))
+                 .block();
+
+    List<String> stages = new ArrayList<>();
+    collectStages(explain.get("queryPlanner",Document.class)
+                         .get("winningPlan"),stages);
+    return stages;
+  }
+
+
+  private void collectStages(Object node, List<String> stages) {
+    if (node instanceof Document) {
+      Document plan = (Document) node;
+      if (plan.containsKey("stage")) stages.add(plan.getString("stage"));
+      plan.values().forEach(child -> collectStages(child,stages));
+    } else if (node instanceof List) {
+      ((List<?>) node).forEach(child -> collectStages(child,stages));
+    }
+  }
+
+
   @Test
   @DisplayName("Container")
   @EnabledIf(expression = enabledTest, loadContext = true)
@@ -1,28 +1,64 @@
 package com.testcontainer.container;
 
+import com.testcontainer.api.blocking.BlockingCallMonitor;
+import com.testcontainer.api.cache.CaffeineCustomerCache;
+import com.testcontainer.api.cache.ICustomerCache;
+import com.testcontainer.api.cache.NoOpCustomerCache;
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.config.MongoIndexConfig;
+import com.testcontainer.api.dto.ChunkCommit;
 import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.exceptions.BatchValidationException;
+import com.testcontainer.api.exceptions.CustomerException;
+import com.testcontainer.api.exceptions.TransactionErrors;
+import com.testcontainer.api.id.ICustomerIdGenerator;
+import com.testcontainer.api.id.ObjectIdGenerator;
+import com.testcontainer.api.id.UlidGenerator;
 import com.testcontainer.api.service.CustomerService;
 import com.testcontainer.api.repository.IRepository;
 import com.testcontainer.api.service.ICustomerService;
+import com.testcontainer.api.transaction.RetryingTransactionalOperator;
+import com.testcontainer.api.writer.DirectCustomerWriter;
+import com.testcontainer.api.writer.ICustomerWriter;
+import com.testcontainer.api.writer.WriteBehindCustomerWriter;
 import com.testcontainer.container.config.Config;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.test.context.junit.jupiter.EnabledIf;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.blockhound.BlockingMethod;
 import reactor.blockhound.BlockingOperationError;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import javax.validation.Validation;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static com.testcontainer.databuilder.CustomerBuilder.customerWithIdAndName;
 import static com.testcontainer.databuilder.CustomerBuilder.customerWithName;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 // https://www.baeldung.com/spring-data-mongodb-reactive
@@ -36,8 +72,14 @@ public class ServiceTests extends Config {
   @Autowired
   private IRepository repo;
 
+  @Lazy
+  @Autowired
+  private ReactiveMongoDatabaseFactory factory;
+
   private ICustomerService service;
 
+  private CustomerProperties properties;
+
 
   @BeforeAll
   public static void beforeAll() {
@@ -56,7 +98,8 @@ public class ServiceTests extends Config {
     //------------------------------------------//
     //VERY IMPORTANT!!!!
     //DEPENDENCY INJECTION MUST BE DONE MANUALLY
-    service = new CustomerService(repo);
+    properties = new CustomerProperties();
+    service = newService(new NoOpCustomerCache());
     //------------------------------------------//
 
     Customer customer1 = customerWithName().create();
@@ -66,6 +109,28 @@ public class ServiceTests extends Config {
   }
 
 
+  private ICustomerService newService(ICustomerCache cache) {
+    return newService(repo,cache);
+  }
+
+
+  private ICustomerService newService(IRepository repository, ICustomerCache cache) {
+    return newService(repository,cache,new DirectCustomerWriter(repository));
+  }
+
+
+  private ICustomerService newService(IRepository repository, ICustomerCache cache, ICustomerWriter writer) {
+    return new CustomerService(
+         repository,
+         properties,
+         Validation.buildDefaultValidatorFactory().getValidator(),
+         TransactionalOperator.create(new ReactiveMongoTransactionManager(factory)),
+         cache,
+         writer
+    );
+  }
+
+
   @Test
   @DisplayName("Save")
   @EnabledIf(expression = enabledTest, loadContext = true)
@@ -105,6 +170,20 @@ public class ServiceTests extends Config {
   }
 
 
+  @Test
+  @DisplayName("Find: Stream in Batches")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void findAll_batchSize() {
+    StepVerifier
+         .create(service.deleteAll()
+                        .thenMany(customerFlux)
+                        .thenMany(service.findAll(1)))
+         .expectSubscription()
+         .expectNextCount(2L)
+         .verifyComplete();
+  }
+
+
   @Test
   @DisplayName("DeleteById")
   @EnabledIf(expression = enabledTest, loadContext = true)
@@ -130,6 +209,415 @@ public class ServiceTests extends Config {
   }
 
 
+  @Test
+  @DisplayName("SaveRollback: Validate-Before-Write")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void saveRollback_invalidBatch() {
+    Customer missingEmail = customerWithName().create();
+    missingEmail.setEmail(null);
+    Customer badEmail = customerWithName().create();
+    badEmail.setEmail("not-an-email");
+
+    StepVerifier
+         .create(service.deleteAll()
+                        .thenMany(service.saveList_IfThrowExceptionExecutesTheRollback(
+                             Arrays.asList(customerList.get(0),missingEmail,badEmail))))
+         .expectErrorSatisfies(error -> {
+           assertTrue(error instanceof BatchValidationException);
+           assertEquals(2,((BatchValidationException) error).getErrors().size());
+         })
+         .verify();
+
+    StepVerifier
+         .create(service.findAll())
+         .expectNextCount(0L)
+         .verifyComplete();
+  }
+
+
+  @Test
+  @DisplayName("SaveRollback: Commit")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void saveRollback_validBatch() {
+    StepVerifier
+         .create(service.deleteAll()
+                        .thenMany(service.saveList_IfThrowExceptionExecutesTheRollback(customerList)))
+         .expectNextSequence(customerList)
+         .verifyComplete();
+
+    StepVerifier
+         .create(service.findAll())
+         .expectNextCount(2L)
+         .verifyComplete();
+  }
+
+
+  @Test
+  @DisplayName("SaveChunked: Resume from Checkpoint")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void saveChunked_resume() {
+    properties.getTransaction().setChunkSize(2);
+
+    List<Customer> seed =
+         IntStream.range(0,5)
+                  .mapToObj(i -> customerWithName().create())
+                  .collect(Collectors.toList());
+
+    //FIRST CALL IS ABANDONED AFTER THE FIRST COMMITTED CHUNK
+    ChunkCommit firstChunk =
+         service.deleteAll()
+                .thenMany(service.saveList_InChunkedTransactions(copyOf(seed),null))
+                .blockFirst();
+
+    assertEquals(2,firstChunk.getTotalCommitted());
+
+    StepVerifier
+         .create(service.findAll())
+         .expectNextCount(2L)
+         .verifyComplete();
+
+    StepVerifier
+         .create(service.saveList_InChunkedTransactions(copyOf(seed),firstChunk.getCheckpoint()))
+         .assertNext(commit -> assertEquals(4,commit.getTotalCommitted()))
+         .assertNext(commit -> assertEquals(5,commit.getTotalCommitted()))
+         .verifyComplete();
+
+    StepVerifier
+         .create(service.findAll())
+         .expectNextCount(5L)
+         .verifyComplete();
+
+    //CHECKPOINT OF ANOTHER BATCH
+    StepVerifier
+         .create(service.saveList_InChunkedTransactions(customerList,firstChunk.getCheckpoint()))
+         .expectError(ResponseStatusException.class)
+         .verify();
+  }
+
+
+  @Test
+  @DisplayName("SaveRollback: Write-Conflict Retry")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void saveRollback_writeConflictRetry() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    properties.getTransaction().setMaxRetries(10);
+    properties.getTransaction().setMaxBackoff(Duration.ofMillis(200));
+    TransactionalOperator plain = TransactionalOperator.create(new ReactiveMongoTransactionManager(factory));
+    TransactionalOperator retrying = new RetryingTransactionalOperator(plain,properties.getTransaction(),registry);
+
+    Customer shared = customerList.get(0);
+    StepVerifier
+         .create(service.deleteAll().then(repo.save(shared)))
+         .expectNextCount(1L)
+         .verifyComplete();
+
+    //HOLDS THE WRITE-LOCK OF 'SHARED' FOR ~500MS; THE OTHER WRITER STARTS AFTER 100MS
+    Mono<Customer> slowWriter =
+         plain.transactional(repo.save(new Customer(shared.getId(),"slow@mail.com",1))
+                                 .delayElement(Duration.ofMillis(500)));
+    Mono<Customer> conflictingWriter =
+         Mono.delay(Duration.ofMillis(100))
+             .then(Mono.defer(() -> repo.save(new Customer(shared.getId(),"fast@mail.com",2))));
+
+    //WITH RETRY: RE-RUN AFTER THE SLOW WRITER COMMITS
+    StepVerifier
+         .create(Mono.when(slowWriter,retrying.transactional(conflictingWriter)))
+         .verifyComplete();
+
+    assertTrue(registry.find("customer.transaction.attempts")
+                       .tag("phase","transaction")
+                       .counter()
+                       .count() > 1.0);
+    StepVerifier
+         .create(repo.findById(shared.getId()).map(Customer::getEmail))
+         .expectNext("fast@mail.com")
+         .verifyComplete();
+
+    //WITHOUT RETRY: THE WRITE-CONFLICT REACHES THE CALLER
+    StepVerifier
+         .create(Mono.when(slowWriter,plain.transactional(conflictingWriter)))
+         .expectErrorSatisfies(error -> assertTrue(
+              TransactionErrors.hasLabel(error,TransactionErrors.TRANSIENT)))
+         .verify();
+  }
+
+
+  private List<Customer> copyOf(List<Customer> customers) {
+    return customers.stream()
+                    .map(customer -> new Customer(null,customer.getEmail(),customer.getRating()))
+                    .collect(Collectors.toList());
+  }
+
+
+  @Test
+  @DisplayName("Cache: Read-After-Write")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void cache_readAfterWrite() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    ICustomerService cachedService = newService(new CaffeineCustomerCache(100,Duration.ofMinutes(5),registry));
+    Customer customer = customerList.get(0);
+
+    StepVerifier
+         .create(cachedService.save(customer))
+         .expectNextCount(1L)
+         .verifyComplete();
+
+    //MISS, THEN HIT
+    for (int read = 0; read < 2; read++) {
+      StepVerifier
+           .create(cachedService.findById(customer.getId()))
+           .assertNext(found -> assertEquals(customer.getRating(),found.getRating()))
+           .verifyComplete();
+    }
+
+    //cache.gets{cache=customer,result=...} (CaffeineCacheMetrics)
+    assertEquals(1.0,registry.get("cache.gets").tag("cache","customer").tag("result","miss").functionCounter().count());
+    assertEquals(1.0,registry.get("cache.gets").tag("cache","customer").tag("result","hit").functionCounter().count());
+
+    //WRITE INVALIDATES: NEXT READ SEES THE NEW VALUE
+    customer.setRating(customer.getRating() + 100);
+
+    StepVerifier
+         .create(cachedService.save(customer)
+                              .then(cachedService.findById(customer.getId())))
+         .assertNext(found -> assertEquals(customer.getRating(),found.getRating()))
+         .verifyComplete();
+
+    StepVerifier
+         .create(cachedService.saveAll(customerList)
+                              .then(cachedService.deleteById(customer.getId()))
+                              .then(cachedService.findById(customer.getId())))
+         .expectNextCount(0L)
+         .verifyComplete();
+
+    StepVerifier
+         .create(cachedService.findById(customerList.get(1).getId())
+                              .then(cachedService.deleteAll())
+                              .then(cachedService.findById(customerList.get(1).getId())))
+         .expectNextCount(0L)
+         .verifyComplete();
+  }
+
+
+  @Test
+  @DisplayName("Cache: Ingest Partial-Failure")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void cache_ingestPartialFailureEvicts() {
+    ICustomerService cachedService = newService(new CaffeineCustomerCache(100,Duration.ofMinutes(5),new SimpleMeterRegistry()));
+    Customer updated = customerList.get(0);
+    Customer duplicateEmail = new Customer(null,customerList.get(1).getEmail(),1);
+
+    StepVerifier
+         .create(repo.deleteAll()
+                     .then(new MongoIndexConfig(new ReactiveMongoTemplate(factory)).ensureIndexes())
+                     .thenMany(cachedService.saveAll(customerList))
+                     .then(cachedService.findById(updated.getId())))
+         .expectNextCount(1L)
+         .verifyComplete();
+
+    //SAME BATCH: THE UPSERT IS WRITTEN, THE DUPLICATE-EMAIL IS REJECTED (BULK-WRITE ERROR)
+    updated.setRating(updated.getRating() + 100);
+
+    StepVerifier
+         .create(cachedService.ingest(Flux.just(updated,duplicateEmail)).last())
+         .assertNext(summary -> {
+           assertEquals(1L,summary.getAccepted());
+           assertEquals(1L,summary.getRejected());
+         })
+         .verifyComplete();
+
+    StepVerifier
+         .create(cachedService.findById(updated.getId()))
+         .assertNext(found -> assertEquals(updated.getRating(),found.getRating()))
+         .verifyComplete();
+  }
+
+
+  @Test
+  @DisplayName("FindById: Single-Flight")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void findById_coalescesConcurrentReads() {
+    Customer customer = customerList.get(0);
+    customer.setId("hot-id");
+
+    IRepository slowRepo = Mockito.mock(IRepository.class);
+    Mockito.when(slowRepo.findById("hot-id"))
+           .thenAnswer(call -> Mono.delay(Duration.ofMillis(200))
+                                   .thenReturn(customer));
+
+    ICustomerService coalescing = newService(slowRepo,new NoOpCustomerCache());
+
+    //BURST: 100 CONCURRENT SUBSCRIBERS -> 1 REPOSITORY CALL
+    StepVerifier
+         .create(Flux.range(0,100)
+                     .flatMap(i -> coalescing.findById("hot-id")
+                                             .subscribeOn(Schedulers.parallel())))
+         .expectNextCount(100L)
+         .verifyComplete();
+
+    Mockito.verify(slowRepo,Mockito.times(1)).findById("hot-id");
+
+    //NEXT BURST (AFTER COMPLETION) -> A NEW CALL
+    StepVerifier
+         .create(coalescing.findById("hot-id"))
+         .expectNext(customer)
+         .verifyComplete();
+
+    Mockito.verify(slowRepo,Mockito.times(2)).findById("hot-id");
+  }
+
+
+  @Test
+  @DisplayName("Save: Write-Behind")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void save_writeBehindCoalescesConcurrentSaves() {
+    StepVerifier
+         .create(repo.deleteAll()
+                     .then(new MongoIndexConfig(new ReactiveMongoTemplate(factory)).ensureIndexes()))
+         .verifyComplete();
+
+    IRepository countingRepo = Mockito.mock(IRepository.class,AdditionalAnswers.delegatesTo(repo));
+    WriteBehindCustomerWriter writer =
+         new WriteBehindCustomerWriter(countingRepo,50,Duration.ofSeconds(1),1);
+    ICustomerService writeBehind = newService(countingRepo,new NoOpCustomerCache(),writer);
+
+    List<Customer> burst =
+         IntStream.range(0,50)
+                  .mapToObj(i -> customerWithName().create())
+                  .collect(Collectors.toList());
+    burst.get(49).setEmail(burst.get(0).getEmail());
+
+    //BURST: 50 CONCURRENT SAVES -> 1 BULK-WRITE; ONLY THE DUPLICATE FAILS
+    StepVerifier
+         .create(Flux.fromIterable(burst)
+                     .flatMap(customer -> writeBehind
+                          .save(customer)
+                          .map(saved -> "saved")
+                          .onErrorResume(DuplicateKeyException.class,error -> Mono.just("duplicate")))
+                     .collectList())
+         .assertNext(results -> {
+           assertEquals(49,Collections.frequency(results,"saved"));
+           assertEquals(1,Collections.frequency(results,"duplicate"));
+         })
+         .verifyComplete();
+
+    Mockito.verify(countingRepo,Mockito.times(1))
+           .bulkSave(Mockito.anyList(),Mockito.anyInt(),Mockito.eq(false));
+    Mockito.verify(countingRepo,Mockito.never()).save(Mockito.any(Customer.class));
+
+    //A LONE SAVE WAITS AT MOST 'WINDOW'
+    StepVerifier
+         .create(writeBehind.save(customerWithName().create()))
+         .expectNextCount(1L)
+         .expectComplete()
+         .verify(Duration.ofSeconds(3));
+
+    //CLOSED: FAILS AT ONCE, NOTHING IS LEFT PENDING
+    writer.close();
+
+    StepVerifier
+         .create(writeBehind.save(customerWithName().create()))
+         .expectError(CustomerException.class)
+         .verify(Duration.ofSeconds(3));
+  }
+
+
+  @Test
+  @DisplayName("Ids: Non-Blocking + Time-Ordered")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void ids_NonBlockingAndTimeOrdered() {
+    for (ICustomerIdGenerator ids : List.of(new ObjectIdGenerator(),new UlidGenerator())) {
+      //BLOCK-HOUND: ANY BLOCKING CALL ON THE 'PARALLEL' THREADS FAILS HERE
+      StepVerifier
+           .create(Flux.range(0,10_000)
+                       .parallel()
+                       .runOn(Schedulers.parallel())
+                       .map(i -> ids.next())
+                       .sequential()
+                       .collect(Collectors.toSet()))
+           .assertNext(unique -> assertEquals(10_000,unique.size()))
+           .verifyComplete();
+    }
+
+    //ULID: MONOTONIC PER THREAD, EVEN INSIDE THE SAME MILLI
+    UlidGenerator ulids = new UlidGenerator();
+    StepVerifier
+         .create(Mono.fromCallable(() -> IntStream.range(0,1_000)
+                                                  .mapToObj(i -> ulids.next())
+                                                  .collect(Collectors.toList()))
+                     .subscribeOn(Schedulers.parallel()))
+         .assertNext(generated -> assertEquals(
+              generated.stream().sorted().collect(Collectors.toList()),generated))
+         .verifyComplete();
+
+    //'_ID' INDEX-ORDER == GENERATION-ORDER (RIGHT-EDGE INSERTS)
+    List<Customer> customers =
+         IntStream.range(0,3)
+                  .mapToObj(i -> customerWithIdAndName(ulids.next()).create())
+                  .collect(Collectors.toList());
+
+    StepVerifier
+         .create(repo.deleteAll()
+                     .thenMany(repo.bulkSave(customers,customers.size(),true))
+                     .thenMany(repo.findPageAfter(null,3))
+                     .map(Customer::getId))
+         .expectNextSequence(customers.stream().map(Customer::getId).collect(Collectors.toList()))
+         .verifyComplete();
+  }
+
+
+  @Test
+  @DisplayName("Ids: ULID Random-Overflow")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void ids_UlidOverflowMovesToNextMilli() {
+    //FROZEN CLOCK + ALL-ONES RANDOM: THE NEXT ID IN THE SAME MILLI OVERFLOWS THE 80 BITS
+    UlidGenerator ulids = new UlidGenerator(() -> 1_000L,() -> -1L);
+
+    List<String> generated =
+         IntStream.range(0,3)
+                  .mapToObj(i -> ulids.next())
+                  .collect(Collectors.toList());
+
+    assertEquals(generated.stream().sorted().distinct().collect(Collectors.toList()),generated);
+    assertEquals(timePart(1_002L),generated.get(2).substring(0,10));
+  }
+
+
+  private String timePart(long millis) {
+    return new UlidGenerator(() -> millis,() -> 0L).next().substring(0,10);
+  }
+
+
+  @Test
+  @DisplayName("BlockHound: Monitor-Mode")
+  @EnabledIf(expression = enabledTest, loadContext = true)
+  public void blockingCallMonitor() {
+    //TESTS INSTALL BLOCK-HOUND IN FAIL-MODE (Config): THE CALLBACK IS DRIVEN DIRECTLY
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    BlockingCallMonitor monitor = new BlockingCallMonitor(1.0,Duration.ofMinutes(1));
+    BlockingMethod sleep = new BlockingMethod("java.lang.Thread","sleep",Modifier.STATIC);
+
+    //DETECTED BEFORE THE REGISTRY EXISTS (STARTUP) -> PUBLISHED ON BIND
+    Mono<Void> blockingCalls = Mono.<Void>fromRunnable(() -> monitor.accept(sleep))
+                                   .repeat(4)
+                                   .then()
+                                   .subscribeOn(Schedulers.parallel());
+
+    StepVerifier
+         .create(blockingCalls
+                      .then(Mono.fromRunnable(() -> monitor.bindTo(registry)))
+                      .then(blockingCalls))
+         .verifyComplete();
+
+    assertEquals(10,monitor.getCount("java.lang.Thread.sleep","parallel"));
+    assertEquals(10.0,registry.find("customer.blocking.calls")
+                              .tag("method","java.lang.Thread.sleep")
+                              .tag("thread","parallel")
+                              .functionCounter()
+                              .count());
+  }
+
+
   @Test
   @DisplayName("Container")
   @EnabledIf(expression = enabledTest, loadContext = true)
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.util.Locale;
+import java.util.UUID;
 
 @Builder
 @Getter
@@ -31,6 +32,13 @@ public class CustomerBuilder {
         return CustomerBuilder.builder().customer(customer1).build();
     }
 
+    //EMAIL IS UNIQUE-INDEXED: RANDOM FAKER-EMAILS COLLIDE IN LARGE SEEDS / UNDER LOAD
+    public static CustomerBuilder customerWithUniqueEmail() {
+        Customer customer1 = customerWithName().create();
+        customer1.setEmail(UUID.randomUUID() + "@unique.test");
+        return CustomerBuilder.builder().customer(customer1).build();
+    }
+
     public Customer create() {
         return this.customer;
     }
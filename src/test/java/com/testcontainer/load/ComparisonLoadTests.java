@@ -0,0 +1,194 @@
+package com.testcontainer.load;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.testcontainer.api.config.MongoClientConfig;
+import com.testcontainer.api.config.MongoClientProperties;
+import com.testcontainer.api.dto.RatingStats;
+import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.repository.IRepository;
+import com.testcontainer.container.config.ControllerConfig;
+import org.bson.Document;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.testcontainer.databuilder.CustomerBuilder.customerWithUniqueEmail;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*------------------------------------------------------------
+           SIDE-BY-SIDE COMPARISONS (PROFILE 'LOAD' ONLY)
+  ------------------------------------------------------------
+a) mvn -Pload test -Dtest=ComparisonLoadTests
+b) BIG SEEDS + TIMINGS: KEPT OUT OF THE REGULAR CONTAINER-SUITE,
+   WHICH ONLY CHECKS THAT BOTH SIDES RETURN THE SAME RESULT
+c) TIMING: 'WARMUP' RUNS DISCARDED, BEST OF 'RUNS' REPORTED
+  ------------------------------------------------------------*/
+@Tag("load")
+public class ComparisonLoadTests extends ControllerConfig {
+
+  private static final int WARMUP = 2;
+  private static final int RUNS = 5;
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private IRepository repo;
+
+
+  @BeforeAll
+  public static void beforeAll() {
+    header("COMPARISON-TESTS");
+  }
+
+
+  //SEED: -Dstats.seed=1000000
+  @Test
+  @DisplayName("Compare: Rating-Stats Aggregation x Client-Side")
+  public void ratingStats() {
+    int seedSize = Integer.getInteger("stats.seed",100_000);
+    seed(seedSize);
+
+    RatingStats server = repo.ratingStats(10).block();
+    long serverMs = bestOfMs(() -> repo.ratingStats(10).block());
+    long clientMs = bestOfMs(() -> clientSideStats().getCount());
+
+    System.out.printf("%n%d docs -> aggregation: %d ms | client-side: %d ms%n%n",
+                      seedSize,serverMs,clientMs);
+
+    assertEquals(clientSideStats().getCount(),server.getCount());
+    assertTrue(serverMs < clientMs);
+  }
+
+
+  //REAL-SERVER: BYTES = RESPONSE-BODY AS SENT BY NETTY (NOT BUFFERED IN THE TEST)
+  //SEED: -Dprojection.seed=1000000
+  @Test
+  @DisplayName("Compare: Full-Document x Fields-Projection")
+  public void findAllProjection() {
+    int seedSize = Integer.getInteger("projection.seed",100_000);
+    seed(seedSize);
+
+    WebClient client = WebClient.create("http://localhost:" + port + "/customer");
+    long fullBytes = bodyBytes(client,"");
+    long projectedBytes = bodyBytes(client,"?fields=id,rating");
+    long fullMs = bestOfMs(() -> bodyBytes(client,""));
+    long projectedMs = bestOfMs(() -> bodyBytes(client,"?fields=id,rating"));
+
+    System.out.printf("%n%d docs -> full: %d bytes / %d ms | projected: %d bytes / %d ms%n%n",
+                      seedSize,fullBytes,fullMs,projectedBytes,projectedMs);
+
+    assertTrue(projectedBytes < fullBytes);
+  }
+
+
+  private long bodyBytes(WebClient client, String query) {
+    return client.get()
+                 .uri(query)
+                 .retrieve()
+                 .bodyToFlux(DataBuffer.class)
+                 .map(buffer -> {
+                   int bytes = buffer.readableByteCount();
+                   DataBufferUtils.release(buffer);
+                   return (long) bytes;
+                 })
+                 .reduce(0L,Long::sum)
+                 .block();
+  }
+
+
+  //SAME 'FIND-ALL' THROUGH ONE CLIENT PER COMPRESSOR
+  //BYTES = SERVER 'network.bytesOut' DELTA (WHAT ACTUALLY CROSSED THE WIRE)
+  //SEED: -Dcompression.seed=1000000
+  @Test
+  @DisplayName("Compare: Wire-Compressors")
+  public void findAllCompressors() {
+    int seedSize = Integer.getInteger("compression.seed",100_000);
+    seed(seedSize);
+
+    long uncompressed = bytesOutFindAll(null,seedSize);
+
+    for (MongoClientProperties.Compressor compressor : MongoClientProperties.Compressor.values()) {
+      assertTrue(bytesOutFindAll(compressor,seedSize) < uncompressed);
+    }
+  }
+
+
+  private long bytesOutFindAll(MongoClientProperties.Compressor compressor, int expected) {
+    MongoClientProperties properties = new MongoClientProperties();
+    properties.setCompressors(compressor == null ? List.of() : List.of(compressor));
+
+    ConnectionString url = new ConnectionString(sharedContainer.getReplicaSetUrl());
+    MongoClientSettings.Builder settings = MongoClientSettings.builder().applyConnectionString(url);
+    new MongoClientConfig(properties).mongoClientSettingsCustomizer().customize(settings);
+
+    try (MongoClient client = MongoClients.create(settings.build())) {
+      ReactiveMongoTemplate template = new ReactiveMongoTemplate(client,url.getDatabase());
+
+      long before = networkBytesOut(template);
+      assertEquals(expected,template.findAll(Customer.class).count().block());
+      long bytes = networkBytesOut(template) - before;
+      long elapsedMs = bestOfMs(() -> template.findAll(Customer.class).count().block());
+
+      System.out.printf("%n%s -> %d docs | %d bytes | %d ms%n%n",
+                        compressor == null ? "NONE" : compressor,expected,bytes,elapsedMs);
+      return bytes;
+    }
+  }
+
+
+  private long networkBytesOut(ReactiveMongoTemplate template) {
+    return template.executeCommand(new Document("serverStatus",1))
+                   .map(status -> status.get("network",Document.class).get("bytesOut",Number.class))
+                   .block()
+                   .longValue();
+  }
+
+
+  private IntSummaryStatistics clientSideStats() {
+    return repo.findAll()
+               .map(Customer::getRating)
+               .collect(Collectors.summarizingInt(Integer::intValue))
+               .block();
+  }
+
+
+  private void seed(int seedSize) {
+    List<Customer> seed =
+         IntStream.range(0,seedSize)
+                  .mapToObj(i -> customerWithUniqueEmail().create())
+                  .collect(Collectors.toList());
+
+    repo.deleteAll()
+        .thenMany(repo.bulkSave(seed,1_000,false))
+        .blockLast();
+  }
+
+
+  private static long bestOfMs(Supplier<?> run) {
+    for (int i = 0; i < WARMUP; i++) run.get();
+
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < RUNS; i++) {
+      long start = System.nanoTime();
+      run.get();
+      best = Math.min(best,System.nanoTime() - start);
+    }
+    return TimeUnit.NANOSECONDS.toMillis(best);
+  }
+}
@@ -0,0 +1,142 @@
+package com.testcontainer.load;
+
+import com.testcontainer.api.config.CustomerProperties;
+import com.testcontainer.api.exceptions.LoadSheddingException;
+import com.testcontainer.api.limiter.ConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.PriorityQueue;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+/*------------------------------------------------------------
+        ADAPTIVE-LIMITER x OFFERED-LOAD (NO CONTAINER NEEDED)
+  ------------------------------------------------------------
+a) SIMULATED SERVER: FIFO-QUEUE IN FRONT OF 'CAPACITY' SLOTS OF 'SERVICE-TIME' EACH
+   (EVERY REQUEST RESERVES THE EARLIEST-FREE SLOT, WAITS FOR IT, THEN HOLDS IT)
+   -> SATURATES AT CAPACITY / SERVICE-TIME = 500 REQ/S
+b) 400 REQ/S (80%) -> 800 REQ/S (160%):
+   - UNLIMITED: THE QUEUE GROWS ~300 REQ/S, SO DOES EVERY REQUEST'S WAIT (~3S AFTER 5S)
+   - LIMITED:   EXCESS IS SHED WITH A FAST 503, ADMITTED WAIT STAYS NEAR THE LATENCY-TARGET
+c) EVERY SCENARIO RUNS AFTER A DISCARDED WARM-UP (JIT, SCHEDULERS, LIMIT CONVERGENCE)
+  ------------------------------------------------------------*/
+@Tag("load")
+public class LimiterLoadTests {
+
+  private static final int CAPACITY = 10;
+  private static final Duration SERVICE_TIME = Duration.ofMillis(20);
+  private static final Duration LATENCY_TARGET = SERVICE_TIME.multipliedBy(3);
+  private static final int RATE = 400;
+  private static final Duration DURATION = Duration.ofSeconds(5);
+  private static final Duration WARMUP = Duration.ofSeconds(1);
+
+
+  @Test
+  @DisplayName("Limiter: P99 Bounded At 2x Load")
+  public void p99BoundedWhenLoadDoubles() throws IOException {
+    LoadReport limitedNominal = run("limited-1x",RATE,limiter());
+    LoadReport limitedDouble = run("limited-2x",RATE * 2,limiter());
+    LoadReport unlimitedDouble = run("unlimited-2x",RATE * 2,null);
+
+    //1x: BELOW CAPACITY -> (ALMOST) NOTHING IS SHED
+    assertTrue(limitedNominal.getErrors() <= limitedNominal.getRequests() / 100);
+
+    //2x LIMITED: EXCESS IS SHED, ADMITTED P99 STAYS NEAR THE TARGET (NOT THE QUEUE-LENGTH)
+    assertTrue(limitedDouble.getErrors() > 0);
+    assertTrue(limitedDouble.percentileMs(99) <= 3 * LATENCY_TARGET.toMillis());
+
+    //2x UNLIMITED: NOTHING IS SHED, THE QUEUE (AND P99) GROWS FOR THE WHOLE RUN
+    assertEquals(0,unlimitedDouble.getErrors());
+    assertTrue(unlimitedDouble.percentileMs(99) > 5 * limitedDouble.percentileMs(99));
+  }
+
+
+  @Test
+  @DisplayName("Limiter: Fast 503 Above The Limit")
+  public void shedsAboveTheLimit() {
+    CustomerProperties.Limiter config = new CustomerProperties.Limiter();
+    config.setInitialLimit(1);
+    config.setMinLimit(1);
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(config,new SimpleMeterRegistry());
+
+    Mono<Long> slow = limiter.limit("simulated",() -> Mono.delay(Duration.ofSeconds(1)));
+    slow.subscribe();
+
+    StepVerifier
+         .create(limiter.limit("simulated",() -> Mono.just(1L)))
+         .expectErrorSatisfies(error -> {
+           assertTrue(error instanceof LoadSheddingException);
+           assertEquals(SERVICE_UNAVAILABLE,((LoadSheddingException) error).getStatus());
+         })
+         .verify(Duration.ofMillis(100));
+
+    //ANOTHER ROUTE HAS ITS OWN LIMIT
+    StepVerifier
+         .create(limiter.limit("other",() -> Mono.just(1L)))
+         .expectNext(1L)
+         .verifyComplete();
+  }
+
+
+  private ConcurrencyLimiter limiter() {
+    CustomerProperties.Limiter config = new CustomerProperties.Limiter();
+    config.setInitialLimit(CAPACITY * 2);
+    config.setMinLimit(1);
+    config.setLatencyTarget(LATENCY_TARGET);
+    return new ConcurrencyLimiter(config,new SimpleMeterRegistry());
+  }
+
+
+  //SAME LIMITER + SERVER FOR WARM-UP AND MEASUREMENT: THE LIMIT STARTS CONVERGED
+  private LoadReport run(String scenario, int rate, ConcurrencyLimiter limiter) throws IOException {
+    SimulatedServer server = new SimulatedServer(CAPACITY,SERVICE_TIME);
+    LongFunction<Mono<?>> request =
+         index -> limiter == null
+              ? server.serve()
+              : limiter.limit("simulated",server::serve);
+
+    //BLOCKS UNTIL THE WARM-UP BACKLOG IS SERVED: THE MEASUREMENT STARTS WITH AN EMPTY QUEUE
+    new LoadGenerator(rate,WARMUP,Integer.MAX_VALUE).run(scenario + "-warmup",request);
+
+    LoadReport report = new LoadGenerator(rate,DURATION,Integer.MAX_VALUE).run(scenario,request);
+    System.out.printf("%n%s%n  report: %s%n%n",report.summary(),report.write().toAbsolutePath());
+    return report;
+  }
+
+
+  //M/D/C FIFO-QUEUE: 'FREE-AT' OF EVERY SLOT; AN ARRIVAL TAKES THE EARLIEST ONE
+  private static class SimulatedServer {
+
+    private final long serviceNanos;
+    private final PriorityQueue<Long> freeAt = new PriorityQueue<>();
+
+
+    SimulatedServer(int capacity, Duration serviceTime) {
+      this.serviceNanos = serviceTime.toNanos();
+      for (int slot = 0; slot < capacity; slot++) freeAt.add(0L);
+    }
+
+
+    Mono<Long> serve() {
+      return Mono.defer(() -> {
+        long now = System.nanoTime();
+        long done;
+        synchronized (freeAt) {
+          done = Math.max(now,freeAt.poll()) + serviceNanos;
+          freeAt.add(done);
+        }
+        return Mono.delay(Duration.ofNanos(done - now));
+      });
+    }
+  }
+}
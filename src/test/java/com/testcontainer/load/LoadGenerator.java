@@ -0,0 +1,80 @@
+package com.testcontainer.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/*------------------------------------------------------------
+                    OPEN-MODEL LOAD-GENERATOR
+  ------------------------------------------------------------
+a) ARRIVALS FOLLOW A FIXED SCHEDULE ('RATE' REQ/S), NOT THE RESPONSES:
+   A SLOW SERVER DOES NOT SLOW DOWN THE GENERATOR
+b) LATENCY IS MEASURED FROM THE *INTENDED* START-TIME,
+   SO TIME SPENT WAITING FOR A FREE SLOT ('CONCURRENCY') IS COUNTED
+   (AVOIDS COORDINATED-OMISSION)
+c) THE HISTOGRAM HOLDS SUCCESSFUL RESPONSES; FAILURES (EX.: 503-SHED) ARE ONLY COUNTED
+d) SYSTEM-PROPERTIES: load.rate / load.duration / load.concurrency
+  ------------------------------------------------------------*/
+@Getter
+@AllArgsConstructor
+public class LoadGenerator {
+
+  private static final long HIGHEST_TRACKABLE = TimeUnit.MINUTES.toNanos(1);
+
+  private final int rate;
+  private final Duration duration;
+  private final int concurrency;
+
+
+  public static LoadGenerator fromSystemProperties() {
+    return new LoadGenerator(
+         Integer.getInteger("load.rate",100),
+         Duration.parse("PT" + System.getProperty("load.duration","10S")),
+         Integer.getInteger("load.concurrency",32)
+    );
+  }
+
+
+  //'REQUEST' RECEIVES THE ARRIVAL-INDEX (0..N-1)
+  public LoadReport run(String scenario, LongFunction<Mono<?>> request) {
+    long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+    long arrivals = rate * duration.getSeconds();
+
+    Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE,3);
+    AtomicLong errors = new AtomicLong();
+    long start = System.nanoTime();
+
+    Flux.interval(Duration.ofNanos(periodNanos))
+        .take(arrivals)
+        .onBackpressureBuffer()
+        .flatMap(index -> {
+          long intended = start + (index + 1) * periodNanos;
+          return request
+               .apply(index)
+               .doOnSuccess(response -> histogram.recordValue(
+                    Math.min(HIGHEST_TRACKABLE,Math.max(0,System.nanoTime() - intended))))
+               .doOnError(error -> errors.incrementAndGet())
+               .onErrorResume(error -> Mono.empty());
+        },concurrency)
+        .then()
+        .block(duration.multipliedBy(3).plusSeconds(30));
+
+    return new LoadReport(
+         scenario,
+         rate,
+         concurrency,
+         arrivals,
+         errors.get(),
+         System.nanoTime() - start,
+         histogram
+    );
+  }
+}
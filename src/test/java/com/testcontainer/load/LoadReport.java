@@ -0,0 +1,63 @@
+package com.testcontainer.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+//REPORT: SUMMARY + HDR-PERCENTILE-DISTRIBUTION (MILLISECONDS)
+//WRITTEN TO 'load.report.dir' (DEFAULT: target/load-reports/<scenario>.hgrm)
+@Getter
+@AllArgsConstructor
+public class LoadReport {
+
+  private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final String scenario;
+  private final int rate;
+  private final int concurrency;
+  private final long requests;
+  private final long errors;
+  private final long elapsedNanos;
+  private final Histogram histogram;
+
+
+  public double throughput() {
+    return requests / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
+
+  public double percentileMs(double percentile) {
+    return histogram.getValueAtPercentile(percentile) / NANOS_PER_MS;
+  }
+
+
+  public String summary() {
+    return String.format(
+         "%s -> rate: %d req/s | concurrency: %d | requests: %d | errors: %d | throughput: %.1f req/s%n" +
+              "  latency(ms) -> p50: %.2f | p99: %.2f | p99.9: %.2f | max: %.2f",
+         scenario,rate,concurrency,requests,errors,throughput(),
+         percentileMs(50),percentileMs(99),percentileMs(99.9),
+         histogram.getMaxValue() / NANOS_PER_MS);
+  }
+
+
+  public Path write() throws IOException {
+    Path dir = Paths.get(System.getProperty("load.report.dir","target/load-reports"));
+    Files.createDirectories(dir);
+
+    Path report = dir.resolve(scenario + ".hgrm");
+    try (PrintStream out = new PrintStream(Files.newOutputStream(report))) {
+      out.println(summary());
+      out.println();
+      histogram.outputPercentileDistribution(out,NANOS_PER_MS);
+    }
+    return report;
+  }
+}
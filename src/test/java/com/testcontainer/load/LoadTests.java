@@ -0,0 +1,108 @@
+package com.testcontainer.load;
+
+import com.testcontainer.api.entity.Customer;
+import com.testcontainer.api.service.ICustomerService;
+import com.testcontainer.container.config.ControllerConfig;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.testcontainer.databuilder.CustomerBuilder.customerWithUniqueEmail;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//MAVEN-PROFILE: mvn -Pload test -Dload.rate=500 -Dload.duration=30S -Dload.concurrency=64
+//REAL-SERVER (RANDOM-PORT): REQUESTS GO THROUGH NETTY, NOT THE MOCKED WEB-TEST-CLIENT
+@Tag("load")
+public class LoadTests extends ControllerConfig {
+
+  private static final int SEED_SIZE = 1_000;
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private ICustomerService service;
+
+  private WebClient client;
+  private LoadGenerator generator;
+  private List<Customer> seed;
+
+
+  @BeforeAll
+  public static void beforeAll() {
+    header("LOAD-TESTS");
+  }
+
+
+  @BeforeEach
+  public void setUp() {
+    client = WebClient.create("http://localhost:" + port + "/customer");
+    generator = LoadGenerator.fromSystemProperties();
+
+    seed = service
+         .deleteAll()
+         .thenMany(service.saveAll(IntStream.range(0,SEED_SIZE)
+                                            .mapToObj(i -> customerWithUniqueEmail().create())
+                                            .collect(Collectors.toList())))
+         .collectList()
+         .block();
+  }
+
+
+  @Test
+  @DisplayName("Load: FindByEmail")
+  public void findByEmail() throws IOException {
+    LoadReport report = generator.run(
+         "findByEmail",
+         index -> client
+              .get()
+              .uri("/email/{email}",seed.get((int) (index % SEED_SIZE)).getEmail())
+              .retrieve()
+              .toBodilessEntity());
+
+    verify(report);
+  }
+
+
+  @Test
+  @DisplayName("Load: FindPage")
+  public void findPage() throws IOException {
+    LoadReport report = generator.run(
+         "findPage",
+         index -> client
+              .get()
+              .uri("/page?size=20")
+              .retrieve()
+              .toBodilessEntity());
+
+    verify(report);
+  }
+
+
+  @Test
+  @DisplayName("Load: Save")
+  public void save() throws IOException {
+    LoadReport report = generator.run(
+         "save",
+         index -> client
+              .post()
+              .bodyValue(customerWithUniqueEmail().create())
+              .retrieve()
+              .toBodilessEntity());
+
+    verify(report);
+  }
+
+
+  private void verify(LoadReport report) throws IOException {
+    System.out.printf("%n%s%n  report: %s%n%n",report.summary(),report.write().toAbsolutePath());
+
+    assertEquals(0L,report.getErrors());
+  }
+}